@@ -6,6 +6,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import org.example.mini.view.ImageCache;
  // or StartController
 
 /**
@@ -27,14 +28,8 @@ public class Main extends Application {
 
         // Optional: set application icon (same logo used in the game window)
         try {
-            Image icon = new Image(
-                    getClass().getResourceAsStream("/org/example/mini/view/images/_/poker-cards.png")
-            );
-            if (icon != null) {
-                primaryStage.getIcons().add(icon);
-            } else {
-                System.err.println("Icon resource not found: /org/example/mini/view/images/_/poker-cards.png");
-            }
+            Image icon = ImageCache.icon();
+            primaryStage.getIcons().add(icon);
         } catch (Exception e) {
             System.err.println("Could not load app icon: " + e.getMessage());
         }
@@ -0,0 +1,234 @@
+package org.example.mini.controller;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.game.GameLoop;
+import org.example.mini.model.game.ManualTurnClock;
+import org.example.mini.model.game.TurnClock;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays the CPU turns of a game as a chain of delayed steps on its {@link GameLoop}.
+ * <p>
+ * A CPU turn is split into three steps: think (3–4 s), play a card, then
+ * draw a replacement after 1–2 s and wait another 1–2 s before the next
+ * turn. Each step is a command scheduled on the game loop through a
+ * {@link TurnClock}, so no thread sleeps during the pacing delays and only
+ * the next pending step exists at any time. {@link #cancel()} drops that
+ * step, which stops the chain at once when the game ends or the window is
+ * closed. With {@link TurnClock#instant()} or a {@link ManualTurnClock} the
+ * same turns run without any real wait.
+ * </p>
+ * <p>
+ * The chain stops by itself when the turn comes back to the human player
+ * or when the game is over, and reports both through a {@link Listener}.
+ * Listener methods are called on the loop thread.
+ * </p>
+ */
+public class CpuTurnScheduler {
+
+    /**
+     * Receives the outcome of the CPU turns.
+     */
+    public interface Listener {
+
+        /**
+         * Called when a CPU has placed a card on the table.
+         *
+         * @param cpu  the CPU that played
+         * @param card the card it played
+         */
+        default void onCpuPlayed(IPlayer cpu, Card card) {
+        }
+
+        /**
+         * Called when the turn comes back to the human player.
+         */
+        default void onHumanTurn() {
+        }
+
+        /**
+         * Called once when the game is over.
+         *
+         * @param winner the winner, or {@code null} if nobody won
+         */
+        default void onGameOver(IPlayer winner) {
+        }
+    }
+
+    private final GameLoop loop;
+    private final TurnClock clock;
+    private final RandomGenerator pacingRandom;
+    private final Listener listener;
+
+    /**
+     * Next scheduled step, or {@code null} when no CPU turns are running.
+     */
+    private volatile Future<?> pending;
+
+    /**
+     * Whether the chain has been cancelled for good.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a scheduler for the game owned by the given loop, paced in real time.
+     *
+     * @param loop         the loop that owns the game
+     * @param pacingRandom random source for the pacing delays
+     * @param listener     receives the outcome of the CPU turns
+     */
+    public CpuTurnScheduler(GameLoop loop, RandomGenerator pacingRandom, Listener listener) {
+        this(loop, TurnClock.realTime(), pacingRandom, listener);
+    }
+
+    /**
+     * Creates a scheduler for the game owned by the given loop.
+     *
+     * @param loop         the loop that owns the game
+     * @param clock        the clock that times the pacing delays
+     * @param pacingRandom random source for the pacing delays
+     * @param listener     receives the outcome of the CPU turns
+     */
+    public CpuTurnScheduler(GameLoop loop, TurnClock clock, RandomGenerator pacingRandom, Listener listener) {
+        this.loop = loop;
+        this.clock = clock;
+        this.pacingRandom = pacingRandom;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts playing CPU turns, beginning by passing the turn on.
+     * Does nothing if CPU turns are already running or the scheduler was cancelled.
+     */
+    public synchronized void start() {
+        if (cancelled || pending != null) {
+            return;
+        }
+        schedule(this::advance, 0);
+    }
+
+    /**
+     * Stops the CPU turns for good, dropping the pending step if there is one.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        Future<?> step = pending;
+        pending = null;
+        if (step != null) {
+            step.cancel(false);
+        }
+    }
+
+    /**
+     * Returns whether CPU turns are currently scheduled.
+     *
+     * @return {@code true} while a step is pending
+     */
+    public boolean isRunning() {
+        return pending != null;
+    }
+
+    /**
+     * Passes the turn on and schedules the next CPU's move, or hands control back.
+     *
+     * @param game the game owned by the loop
+     */
+    private void advance(Game game) {
+        if (finishIfOver(game)) {
+            return;
+        }
+
+        game.nextTurn();
+        IPlayer current = game.getCurrentPlayer();
+        if (current instanceof MachinePlayer) {
+            MachinePlayer cpu = (MachinePlayer) current;
+
+            // Delay before playing: 3-4 seconds
+            schedule(g -> play(g, cpu), 3000 + pacingRandom.nextInt(1000));
+        } else {
+            // Take back to the human player
+            stop();
+            listener.onHumanTurn();
+        }
+    }
+
+    /**
+     * Lets a CPU play a card and schedules its draw.
+     *
+     * @param game the game owned by the loop
+     * @param cpu  the CPU whose turn it is
+     */
+    private void play(Game game, MachinePlayer cpu) {
+        Card move = cpu.playCard(game.getTable().getTableSum());
+        if (move == null) {
+            // The CPU cannot play: it is eliminated and the turn passes at once
+            game.checkAndEliminatePlayers();
+            schedule(this::advance, 0);
+            return;
+        }
+
+        if (game.getTable().placeCard(move, false)) {
+            listener.onCpuPlayed(cpu, move);
+        }
+
+        // Delay after playing: 1-2 seconds
+        schedule(g -> draw(g, cpu), 1000 + pacingRandom.nextInt(1000));
+    }
+
+    /**
+     * Gives a CPU a replacement card, checks for eliminations and schedules the next turn.
+     *
+     * @param game the game owned by the loop
+     * @param cpu  the CPU that just played
+     */
+    private void draw(Game game, MachinePlayer cpu) {
+        Card newCard = game.drawCardWithRecycle();
+        if (newCard != null) {
+            cpu.addCard(newCard);
+        }
+        game.checkAndEliminatePlayers();
+
+        // Delay between turns: 1-2 seconds
+        schedule(this::advance, 1000 + pacingRandom.nextInt(1000));
+    }
+
+    /**
+     * Ends the chain and reports the winner if the game is over.
+     *
+     * @param game the game owned by the loop
+     * @return {@code true} if the game is over
+     */
+    private boolean finishIfOver(Game game) {
+        if (!game.isGameOver()) {
+            return false;
+        }
+        stop();
+        listener.onGameOver(game.getWinner());
+        return true;
+    }
+
+    /**
+     * Schedules the next step, unless the chain has been cancelled.
+     *
+     * @param step        the step to run on the loop
+     * @param delayMillis the delay before it runs, in milliseconds
+     */
+    private synchronized void schedule(Consumer<Game> step, long delayMillis) {
+        if (!cancelled) {
+            pending = clock.schedule(loop, step, delayMillis);
+        }
+    }
+
+    /**
+     * Marks the chain as stopped so that {@link #start()} can run it again.
+     */
+    private synchronized void stop() {
+        pending = null;
+    }
+}
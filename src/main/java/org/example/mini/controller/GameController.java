@@ -1,24 +1,38 @@
 package org.example.mini.controller;
 
-import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import org.example.mini.model.Table;
 import org.example.mini.model.card.Card;
 import org.example.mini.model.game.Game;
+import org.example.mini.model.game.GameListener;
+import org.example.mini.model.game.GameLoop;
+import org.example.mini.model.game.GameSnapshot;
+import org.example.mini.model.game.TurnClock;
 import org.example.mini.model.player.*;
-import org.example.mini.util.TableMonitorThread;
-import org.example.mini.util.TurnMonitorThread;
+import org.example.mini.model.player.strategy.CpuStrategies;
+import org.example.mini.model.player.strategy.CpuStrategy;
+import org.example.mini.model.rules.LegalMoves;
+import org.example.mini.view.CardAtlas;
+import org.example.mini.view.CardRow;
+import org.example.mini.view.CardSize;
+import org.example.mini.view.UiUpdateScheduler;
+import org.example.mini.view.UiUpdateScheduler.Part;
 
 
 import javafx.scene.layout.*;
 import javafx.scene.layout.VBox;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Main controller for the game view.
@@ -26,8 +40,12 @@ import javafx.scene.Node;
  *
  * Responsibilities:
  * - Initialize and update the UI (table, cards, turn).
- * - Manage background threads for CPU turns and table monitoring.
+ * - Schedule the CPU turns and redraw the view when the game changes.
  * - Provide methods to play cards and advance the game.
+ *
+ * The game is owned by a {@link GameLoop}: every change to it is submitted
+ * as a command and runs on the loop thread, and the view is drawn from the
+ * immutable {@link GameSnapshot} published after each command.
  */
 public class GameController implements IGameController {
 
@@ -63,11 +81,16 @@ public class GameController implements IGameController {
     private int cpuCount;
 
     /**
-     * Reference to the game model.
+     * Single-threaded owner of the game model; all model changes run on it.
      */
-    private Game game;
+    private GameLoop loop;
 
 
+    /**
+     * Random source for the CPU pacing delays, split from the game's master generator.
+     */
+    private RandomGenerator pacingRandom;
+
     /**
      * Example additional control in the view; can be used for status messages.
      */
@@ -86,40 +109,126 @@ public class GameController implements IGameController {
     private volatile boolean turnProcessing = false;
 
     /**
-     * Thread that monitors the table and forces periodic UI updates.
+     * Plays the CPU turns as cancellable, delayed steps on the game loop.
+     */
+    private CpuTurnScheduler cpuTurns;
+
+    /**
+     * Clock that times the CPU pacing delays; real time unless replaced before {@link #init(Game)}.
+     */
+    private TurnClock turnClock = TurnClock.realTime();
+
+    /**
+     * Reacts to the CPU turns; called on the loop thread.
+     */
+    private final CpuTurnScheduler.Listener cpuTurnListener = new CpuTurnScheduler.Listener() {
+        @Override
+        public void onCpuPlayed(IPlayer cpu, Card card) {
+            ui.setStatus(cpu.getName() + " played: " + card.getRank() + " of " + card.getSuit());
+        }
+
+        @Override
+        public void onHumanTurn() {
+            // Take back to the human player (the turn listener already shows it)
+            playerCanPlay = true;      // Now the Human Player can play
+            turnProcessing = false;    // Unlock the logic
+        }
+
+        @Override
+        public void onGameOver(IPlayer winner) {
+            String winnerText = (winner != null) ? winner.getName() : "No winner";
+            ui.setStatus("Game Over - Winner: " + winnerText);
+
+            // Nothing is left to run: stop the loop thread (the final snapshot is still published)
+            loop.shutdown();
+        }
+    };
+
+    /**
+     * Coalesces the view updates requested by the game loop and the CPU thread
+     * into at most one redraw per part and JavaFX pulse.
      */
-    private TableMonitorThread tableMonitor;
+    private final UiUpdateScheduler ui = new UiUpdateScheduler();
 
     /**
-     * Thread that could monitor turn changes (not fully used here).
+     * Marks the view dirty after every game command; the renderers then read
+     * the latest snapshot.
      */
-    private TurnMonitorThread turnMonitor;
+    private final Consumer<GameSnapshot> snapshotListener = snapshot -> {
+        ui.markDirty(Part.TABLE);
+        ui.markDirty(Part.SEATS);
+        ui.markDirty(Part.HAND);
+        ui.markDirty(Part.TURN);
+    };
 
     /**
-     * Refresh interval in milliseconds for table monitoring.
+     * Listener that sets the status text when the turn changes.
      */
-    private static final int REFRESH_INTERVAL = 100; // Update every 100 ms
+    private final GameListener gameListener = new GameListener() {
+        @Override
+        public void onTurnStarted(IPlayer player) {
+            ui.setStatus(player.isHuman() ? "Your turn!" : "CPU is playing...");
+        }
+    };
 
     /**
      * Horizontal container that shows the players (each player in a VBox).
      */
     @FXML private HBox playersContainer;
 
+    /**
+     * Card nodes of the human player's hand, kept across turns.
+     */
+    private CardRow handRow;
+
+    /**
+     * Card nodes of every seat in {@code playersContainer}, by seat index.
+     */
+    private final List<CardRow> seatRows = new ArrayList<>();
+
+    /**
+     * Seat box of every player in {@code playersContainer}, by seat index.
+     */
+    private final List<VBox> seatBoxes = new ArrayList<>();
+
+    /**
+     * Seat whose box currently has the {@code :active-turn} pseudo-class, or {@code -1}.
+     */
+    private int highlightedSeat = -1;
+
+    /**
+     * Pseudo-class set on the seat box of the player who has the turn (see {@code game-style.css}).
+     */
+    private static final PseudoClass ACTIVE_TURN = PseudoClass.getPseudoClass("active-turn");
+
 
     /**
      * Initializes the controller with the given {@link Game} instance.
+     * The game is handed over to a new {@link GameLoop} and must not be
+     * accessed directly afterwards.
      *
      * @param game the already-created game model
      */
     @Override
     public void init(Game game) {
-        this.game = game;
+        this.pacingRandom = game.splitRandom();
+        this.handRow = new CardRow(handContainer, CardSize.LARGE, 90, 130, true, this::playCard);
 
-        // Start the table monitor thread
-        startTableMonitoring();
+        // React to turn changes (notified on the loop thread)
+        game.addListener(gameListener);
 
-        // Start the turn monitor thread
-        startTurnMonitoring();
+        // From here on the game is only touched by the loop thread
+        this.loop = new GameLoop(game);
+        loop.addSnapshotListener(snapshotListener);
+        this.cpuTurns = new CpuTurnScheduler(loop, turnClock, pacingRandom, cpuTurnListener);
+
+        // Redraw each part of the view at most once per pulse
+        ui.on(Part.TABLE, this::updateTable)
+                .on(Part.SEATS, this::showPlayers)
+                .on(Part.HAND, this::showPlayerHand)
+                .on(Part.TURN, this::showTurn)
+                .onStatus(lblLastCard::setText)
+                .start();
 
         // Show players in the UI
         showPlayers();
@@ -127,7 +236,34 @@ public class GameController implements IGameController {
         // Initial updates
         updateTable();
         showPlayerHand();
-        updateTurnDisplay();
+        showTurn();
+        lblLastCard.setText(loop.getSnapshot().getCurrentPlayer().isHuman() ? "Your turn!" : "CPU is playing...");
+    }
+
+    /**
+     * Replaces the clock that times the CPU pacing delays, e.g. with
+     * {@link TurnClock#instant()} for automated runs. Must be called before {@link #init(Game)}.
+     *
+     * @param turnClock the clock to use
+     */
+    public void setTurnClock(TurnClock turnClock) {
+        this.turnClock = turnClock;
+    }
+
+    /**
+     * Stops the game: cancels the pending CPU step, stops the game loop thread
+     * and the view updates. Called when the game window is closed.
+     * Must run on the JavaFX Application Thread.
+     */
+    @Override
+    public void shutdown() {
+        if (cpuTurns != null) {
+            cpuTurns.cancel();
+        }
+        if (loop != null) {
+            loop.shutdown();
+        }
+        ui.stop();
     }
 
     /**
@@ -137,22 +273,51 @@ public class GameController implements IGameController {
      * @param cpuCount number of CPU players to create
      */
     public void initializeGame(int cpuCount) {
-        this.cpuCount = cpuCount;
-        this.game = new Game(cpuCount);
-        this.game.start(); // Init cards
+        initializeGame(Collections.nCopies(cpuCount, CpuStrategies.defaultStrategy()));
+    }
+
+    /**
+     * Initializes a new game with one CPU per given strategy.
+     * Creates the {@link Game} instance, starts it and updates the UI.
+     *
+     * @param cpuStrategies the strategy of each CPU player, in seat order
+     */
+    public void initializeGame(List<CpuStrategy> cpuStrategies) {
+        this.cpuCount = cpuStrategies.size();
+        SplittableRandom random = new SplittableRandom();
+        List<IPlayer> players = new ArrayList<>();
+        players.add(new HumanPlayer("You"));
+        for (int i = 0; i < cpuStrategies.size(); i++) {
+            players.add(new MachinePlayer("CPU " + (i + 1), random.split(), cpuStrategies.get(i)));
+        }
+        Game game = new Game(players, random);
+        game.start(); // Init cards
         init(game); // Update UI with the new game
     }
 
     /**
      * Builds and displays all players in the UI.
-     * Creates a VBox per player and adds it to {@code playersContainer}.
+     * Creates a VBox per player and adds it to {@code playersContainer} the
+     * first time; later calls only update the cards shown in each seat.
      */
     private void showPlayers() {
-        playersContainer.getChildren().clear();
+        List<GameSnapshot.Seat> seats = loop.getSnapshot().getSeats();
+        if (seatRows.isEmpty()) {
+            for (GameSnapshot.Seat seat : seats) {
+                VBox playerBox = createPlayerBox(seat);
+                playersContainer.getChildren().add(playerBox);
+            }
+        }
 
-        for (IPlayer player : game.getPlayers()) {
-            VBox playerBox = createPlayerBox(player);
-            playersContainer.getChildren().add(playerBox);
+        for (int i = 0; i < seats.size(); i++) {
+            GameSnapshot.Seat seat = seats.get(i);
+            if (seat.isHuman()) {
+                // Show real cards
+                seatRows.get(i).show(seat.getHand());
+            } else {
+                // Show back cards for machine players
+                seatRows.get(i).showBacks(seat.getHand().size());
+            }
         }
 
         updateTurnDisplay(); // Update the active player highlight
@@ -160,139 +325,77 @@ public class GameController implements IGameController {
 
     /**
      * Creates a visual node (VBox) that represents a player.
-     * Human players show real cards; machine players show card backs.
+     * The box is added to {@link #seatBoxes} and its cards are drawn by a
+     * {@link CardRow} added to {@link #seatRows}: human players show real
+     * cards, machine players show card backs.
      *
-     * @param player the player to represent
+     * @param seat the seat to represent
      * @return VBox containing the player's name and card container
      */
-    private VBox createPlayerBox(IPlayer player) {
+    private VBox createPlayerBox(GameSnapshot.Seat seat) {
         VBox playerBox = new VBox(5);
         playerBox.setAlignment(Pos.CENTER);
-        playerBox.setStyle("-fx-background-color: rgba(255,255,255,0.15); -fx-padding: 10; -fx-background-radius: 10;");
+        playerBox.getStyleClass().add("player-seat");
 
         // Player Name
-        Label nameLabel = new Label(player.getName());
-        nameLabel.setStyle("-fx-font-size: 14px; -fx-font-weight: bold; -fx-text-fill: white;");
+        Label nameLabel = new Label(seat.getName());
+        nameLabel.getStyleClass().add("player-name");
 
         // Container for cards
         HBox cardsBox = new HBox(5);
         cardsBox.setAlignment(Pos.CENTER);
-
-        // Show cards based on player type
-        if (player.isHuman()) {
-            // Show real cards
-            for (Card card : player.getHand()) {
-                ImageView cardView = new ImageView(new Image(getClass().getResourceAsStream(card.getImagePath())));
-                cardView.setFitWidth(60);
-                cardView.setFitHeight(90);
-                cardsBox.getChildren().add(cardView);
-            }
-        } else {
-            // Show back cards for machine players
-            for (int i = 0; i < player.getHand().size(); i++) {
-                ImageView backView = new ImageView(new Image(getClass().getResourceAsStream("/org/example/mini/view/images/_/cardback.png")));
-                backView.setFitWidth(60);
-                backView.setFitHeight(90);
-                cardsBox.getChildren().add(backView);
-            }
-        }
+        seatRows.add(new CardRow(cardsBox, CardSize.SMALL, 60, 90, false, null));
 
         playerBox.getChildren().addAll(nameLabel, cardsBox);
+        seatBoxes.add(playerBox);
         return playerBox;
     }
 
     /**
      * Updates the UI to visually highlight the player who currently has the turn.
-     * Iterates the children of {@code playersContainer} and compares names.
+     * Moves the {@code :active-turn} pseudo-class from the previously highlighted
+     * seat box to the box of {@code currentSeat}, so at most two nodes change.
      *
-     * @param currentPlayer the active player
+     * @param currentSeat the seat index of the active player
      */
-    private void updateTurnDisplay(IPlayer currentPlayer) {
-        for (Node node : playersContainer.getChildren()) {
-            VBox box = (VBox) node;
-            Label nameLabel = (Label) box.getChildren().get(0);
+    private void updateTurnDisplay(int currentSeat) {
+        if (currentSeat == highlightedSeat) return;
 
-            if (nameLabel.getText().equals(currentPlayer.getName())) {
-                box.setStyle("-fx-background-color: rgba(255,215,0,0.4); -fx-padding: 10; -fx-background-radius: 10;");
-            } else {
-                box.setStyle("-fx-background-color: rgba(255,255,255,0.15); -fx-padding: 10; -fx-background-radius: 10;");
-            }
+        if (highlightedSeat >= 0) {
+            seatBoxes.get(highlightedSeat).pseudoClassStateChanged(ACTIVE_TURN, false);
+        }
+        if (currentSeat >= 0 && currentSeat < seatBoxes.size()) {
+            seatBoxes.get(currentSeat).pseudoClassStateChanged(ACTIVE_TURN, true);
+            highlightedSeat = currentSeat;
+        } else {
+            highlightedSeat = -1;
         }
     }
 
     /**
-     * UI-safe version that obtains the current player from the model and calls {@link #updateTurnDisplay(IPlayer)}.
-     * Does nothing if {@code game} or the current player is null.
+     * UI-safe version that obtains the current seat from the latest snapshot
+     * and calls {@link #updateTurnDisplay(int)}.
      */
     private void updateTurnDisplay() {
-        if (game == null || game.getCurrentPlayer() == null) return;
-        updateTurnDisplay(game.getCurrentPlayer());
+        updateTurnDisplay(loop.getSnapshot().getCurrentSeat());
     }
 
     /**
-     * Starts the thread that monitors the table and forces periodic updates (every {@link #REFRESH_INTERVAL} ms).
+     * Shows whose turn it is: highlights the current player and enables the
+     * hand only on the human player's turn. The matching status text is set
+     * separately through the {@link UiUpdateScheduler}.
+     * Must run on the JavaFX Application Thread.
      */
-    private void startTableMonitoring() {
-        tableMonitor = new TableMonitorThread(this::forceTableUpdate, REFRESH_INTERVAL);
-        tableMonitor.start();
-        System.out.println("Table monitor started");
-    }
-
-    /**
-     * Starts the thread that monitors turn changes and updates UI accordingly.
-     */
-    private void startTurnMonitoring() {
-        turnMonitor = new TurnMonitorThread(
-                game,
-                () -> { // If is human turn
-                    Platform.runLater(() -> {
-                        lblLastCard.setText("Your turn!");
-                        handContainer.setDisable(false);
-                    });
-                },
-                () -> { // If is CPU turn
-                    Platform.runLater(() -> {
-                        lblLastCard.setText("CPU is playing...");
-                        handContainer.setDisable(true);
-                    });
-                }
-        );
-        turnMonitor.start();
-        System.out.println("Turn monitor started");
-    }
-
-
-    /**
-     * Forces a complete table update on the JavaFX Application Thread.
-     * Updates the table sum, last card text and image.
-     *
-     * Safe to call from background threads.
-     */
-    private void forceTableUpdate() {
-        if (game != null && game.getTable() != null) {
-            // Update table sum
-            int currentSum = game.getTable().getTableSum();
-            Platform.runLater(() -> {
-                lblTableSum.setText("Table sum: " + currentSum);
-
-                // Also updates the last card
-                Card lastCard = game.getTable().getLastCard();
-                if (lastCard != null) {
-                    lblLastCard.setText("Last card: " + lastCard.toString());
-                    try {
-                        Image image = new Image(getClass().getResourceAsStream(lastCard.getImagePath()));
-                        imgLastCard.setImage(image);
-                    } catch (Exception e) {
-                        System.out.println("Error updating card image: " + e.getMessage());
-                    }
-                }
-            });
-        }
+    private void showTurn() {
+        GameSnapshot snapshot = loop.getSnapshot();
+        updateTurnDisplay(snapshot.getCurrentSeat());
+        handContainer.setDisable(!snapshot.getCurrentPlayer().isHuman() || snapshot.isGameOver());
     }
 
     /**
      * Handles the logic for the human player playing a card.
-     * Validates the move, updates model and UI, draws a replacement card and triggers CPU turns.
+     * Submits the move to the game loop, which validates it, updates the model
+     * and draws a replacement card; then triggers the CPU turns.
      *
      * @param card the card chosen by the human player
      */
@@ -301,14 +404,32 @@ public class GameController implements IGameController {
         turnProcessing = true;
         playerCanPlay = false;
 
+        loop.submit(game -> playHumanCard(game, card)).whenComplete((played, error) -> {
+            if (error != null || !played) {
+                turnProcessing = false;
+                playerCanPlay = true;
+                return;
+            }
+
+            // CPU turns run next; the scheduler also reports the winner if the game is over
+            cpuTurns.start();
+        });
+    }
+
+    /**
+     * Plays a card of the human player. Runs on the game loop.
+     *
+     * @param game the game owned by the loop
+     * @param card the card chosen by the human player
+     * @return {@code true} if the card was played, {@code false} if the move was rejected
+     */
+    private boolean playHumanCard(Game game, Card card) {
         HumanPlayer human = (HumanPlayer) game.getPlayers().get(0);
 
         // Verify if the card can be played
-        if (!card.canBePlayed(game.getTable().getTableSum(), true)) {
-            Platform.runLater(() -> lblLastCard.setText("Cannot play - would exceed 50!"));
-            turnProcessing = false;
-            playerCanPlay = true;
-            return;
+        if (!LegalMoves.of(human.getHand(), game.getTable().getTableSum(), true).contains(card)) {
+            ui.setStatus("Cannot play - would exceed 50!");
+            return false;
         }
 
         // Play the card
@@ -316,191 +437,40 @@ public class GameController implements IGameController {
         boolean validMove = game.getTable().placeCard(card, true);
 
         if (!validMove) {
-            Platform.runLater(() -> lblLastCard.setText("Invalid move!"));
+            ui.setStatus("Invalid move!");
             human.addCard(card);
-            turnProcessing = false;
-            playerCanPlay = true;
-            return;
+            return false;
         }
 
-        // Immediate update after play
-        forceTableUpdate();
-
         // Take new card from deck
         Card newCard = game.drawCardWithRecycle();
         if (newCard != null) human.addCard(newCard);
 
-        showPlayerHand();
-
-        Platform.runLater(() -> {
-            updateTurnDisplay();
-            lblLastCard.setText("You played: " + card.getRank() + " of " + card.getSuit());
-        });
+        ui.setStatus("You played: " + card.getRank() + " of " + card.getSuit());
 
         // Check for eliminated players
         game.checkAndEliminatePlayers();
-        if (game.isGameOver()) {
-            turnProcessing = false;
-            playerCanPlay = false;
-            stopTableMonitoring();
-        } else {
-            stopTableMonitoring();
-            Platform.runLater(() -> {
-                updateTurnDisplay();
-                lblLastCard.setText("Game Over - You Win!");
-            });
-        }
-
-        runMachineTurns();
+        return true;
     }
 
     /**
      * Shows the human player's hand in the {@code handContainer}.
-     * Each card is clickable and calls {@link #playCard(Card)}.
+     * Each card is clickable and calls {@link #playCard(Card)}; nodes of cards
+     * still in the hand are reused. Once the game is over the hand is emptied.
      *
      * This method updates the UI and must run on the JavaFX Application Thread.
      */
     @FXML
     @Override
     public void showPlayerHand() {
-        handContainer.getChildren().clear();
-
-        HumanPlayer human = (HumanPlayer) game.getPlayers().get(0);
-
-        for (Card card : human.getHand()) {
-            // Load the image
-            Image image = new Image(getClass().getResourceAsStream(card.getImagePath()));
-            ImageView imageView = new ImageView(image);
-
-            // Scale the card image
-            imageView.setFitWidth(90);
-            imageView.setFitHeight(130);
-            imageView.setPreserveRatio(true);
-
-            // Make it clickable
-            imageView.setOnMouseClicked(e -> playCard(card));
-
-            // Add it to the HBox
-            handContainer.getChildren().add(imageView);
-        }
-    }
-
-    /**
-     * Runs the CPU turns in a separate thread.
-     * Advances turns in the model and requests each CPU to play.
-     * UI updates are performed via {@link Platform#runLater(Runnable)}.
-     */
-    private void runMachineTurns() {
-        Thread cpuThread = new Thread(() -> {
-            while (!game.isGameOver()) {
-                game.nextTurn();
-                IPlayer current = game.getCurrentPlayer();
-
-                if (current instanceof MachinePlayer) {
-                    MachinePlayer cpu = (MachinePlayer) current;
-
-                    // Update display to show CPU turn
-                    Platform.runLater(this::updateTurnDisplay);
-
-                    // Delay before playing: 3-4 seconds
-                    int delayBeforePlay = 3000 + (int)(Math.random() * 1000);
-                    try {
-                        Thread.sleep(delayBeforePlay);
-                    } catch (InterruptedException ignored) {}
-
-                    Card move = cpu.playCard(game.getTable().getTableSum());
-
-                    if (move != null) {
-                        // Play card
-                        boolean validMove = game.getTable().placeCard(move, false);
-
-                        // Immediatelly update after play
-                        forceTableUpdate();
-
-                        Platform.runLater(() -> {
-                            if (validMove) {
-                                lblLastCard.setText(cpu.getName() + " played: " + move.getRank() + " of " + move.getSuit());
-                            }
-                            updateTurnDisplay(); // Update after play if the CPU played is valid
-                        });
-
-                        // Delay after playing: 1-2 seconds
-                        int delayAfterPlay = 1000 + (int)(Math.random() * 1000);
-                        try {
-                            Thread.sleep(delayAfterPlay);
-                        } catch (InterruptedException ignored) {}
-
-                        // CPU takes new card
-                        Card newCard = game.drawCardWithRecycle();
-                        if (newCard != null) {
-                            cpu.addCard(newCard);
-                        }
-
-                        game.checkAndEliminatePlayers();
-
-                        // Update if some players were eliminated
-                        Platform.runLater(this::updateTurnDisplay);
-
-                        // Delay between turns: 1-2 seconds
-                        int delayBetweenTurns = 1000 + (int)(Math.random() * 1000);
-                        try {
-                            Thread.sleep(delayBetweenTurns);
-                        } catch (InterruptedException ignored) {}
-
-                    } else {
-                        game.checkAndEliminatePlayers();
-                        Platform.runLater(this::updateTurnDisplay); // Update if it can´t play
-                    }
-                } else {
-                    // Take back to the human player
-                    Platform.runLater(() -> {
-                        updateTurnDisplay();
-                        lblLastCard.setText("Your turn!");
-                        playerCanPlay = true;      // Now the Human Player can play
-                        turnProcessing = false;    // Unlock the logic
-                    });
-                    break;
-                }
-            }
-
-            if (game.isGameOver()) {
-                stopTableMonitoring();
-                stopTurnMonitoring();
-                if (turnMonitor != null) {
-                    turnMonitor.stopMonitoring();
-                }
-                Platform.runLater(() -> {
-                    updateTurnDisplay(); // Update Turns if the game ends
-                    IPlayer winner = game.getWinner();
-                    String winnerText = (winner != null) ? winner.getName() : "No winner";
-                    lblLastCard.setText("Game Over - Winner: " + winnerText);
-                    handContainer.getChildren().clear();
-                });
-            }
-        });
-
-        cpuThread.setDaemon(true);
-        cpuThread.start();
-    }
-
-    /**
-     * Stops the table monitor if running.
-     */
-    private void stopTableMonitoring() {
-        if (tableMonitor != null) {
-            tableMonitor.stopMonitoring();
-            System.out.println("Table monitor stopped");
+        GameSnapshot snapshot = loop.getSnapshot();
+        if (snapshot.isGameOver()) {
+            handRow.clear();
+            return;
         }
-    }
 
-    /**
-     * Stops the turn monitor if present.
-     */
-    private void stopTurnMonitoring() {
-        if (turnMonitor != null) {
-            turnMonitor.stopMonitoring();
-            System.out.println("Table monitor stopped");
-        }
+        // Only the cards that changed get a new node; each node stays bound to its card
+        handRow.show(snapshot.getSeats().get(0).getHand());
     }
 
     /**
@@ -510,14 +480,13 @@ public class GameController implements IGameController {
     @FXML
     @Override
     public void updateTable() {
-        Table table = game.getTable();
-        lblTableSum.setText("Table sum: " + table.getTableSum());
+        GameSnapshot snapshot = loop.getSnapshot();
+        lblTableSum.setText("Table sum: " + snapshot.getTableSum());
 
-        Card last = table.getLastCard();
+        Card last = snapshot.getLastCard();
         if (last != null) {
             lblLastCard.setText("Last card: " + last.toString());
-            Image image = new Image(getClass().getResourceAsStream(last.getImagePath()));
-            imgLastCard.setImage(image);
+            CardAtlas.get(CardSize.LARGE).show(imgLastCard, last);
         } else {
             lblLastCard.setText("Last card: None");
             imgLastCard.setImage(null);
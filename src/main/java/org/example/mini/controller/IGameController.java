@@ -47,4 +47,9 @@ public interface IGameController {
      * </p>
      */
     void showPlayerHand();
-}
\ No newline at end of file
+
+    /**
+     * Stops the game and releases its threads.
+     */
+    void shutdown();
+}
@@ -6,6 +6,7 @@ import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.ChoiceBox;
 import javafx.scene.image.Image;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundImage;
@@ -14,19 +15,37 @@ import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.StackPane;   // <-- import for rootPane
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
+import org.example.mini.model.player.strategy.CpuStrategies;
+import org.example.mini.model.player.strategy.CpuStrategy;
+import org.example.mini.view.CardAtlas;
+import org.example.mini.view.ImageCache;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Controller for the start (menu) screen.
  * <p>
  * This controller handles the user's choice of how many CPU opponents
- * to play against and transitions from the start view to the main game view.
+ * to play against, and of the {@link CpuStrategy} each of them plays with,
+ * and transitions from the start view to the main game view.
  * Each public handler method corresponds to a button in the start UI.
  * </p>
  */
 public class StartController {
 
+    /**
+     * Classpath location of the start screen background.
+     */
+    private static final String BACKGROUND_PATH = "/org/example/mini/view/images/_/start_casino.png";
+
+    /**
+     * Width, in pixels, at which the background is decoded (the start view's preferred width).
+     */
+    private static final int BACKGROUND_WIDTH = 900;
+
     /**
      * Root container of the start view.
      * <p>
@@ -37,6 +56,24 @@ public class StartController {
     @FXML
     private StackPane rootPane;
 
+    /**
+     * Strategy of the first CPU.
+     */
+    @FXML
+    private ChoiceBox<CpuStrategy> cpu1Strategy;
+
+    /**
+     * Strategy of the second CPU, used in games with two or three CPUs.
+     */
+    @FXML
+    private ChoiceBox<CpuStrategy> cpu2Strategy;
+
+    /**
+     * Strategy of the third CPU, used in games with three CPUs.
+     */
+    @FXML
+    private ChoiceBox<CpuStrategy> cpu3Strategy;
+
     /**
      * Initializes the start view controller after the FXML has been loaded.
      * <p>
@@ -44,16 +81,37 @@ public class StartController {
      * to load the background image for the start screen (for example
      * {@code start_casino.png}) and apply it as a {@link Background} to the
      * {@link #rootPane}. If the image cannot be loaded, a neutral gradient
-     * background is used as a fallback.
+     * background is used as a fallback. It also starts packing the card
+     * images into their atlases on a background thread so the game screen
+     * finds them ready. The strategy choices are filled with every
+     * {@link CpuStrategy} found on the class path.
      * </p>
      */
     @FXML
     private void initialize() {
+        // Build the card atlases in the background while the start screen is showing
+        CardAtlas.preload();
+
+        for (ChoiceBox<CpuStrategy> choice : strategyChoices()) {
+            choice.getItems().setAll(CpuStrategies.available());
+            choice.setConverter(new StringConverter<>() {
+                @Override
+                public String toString(CpuStrategy strategy) {
+                    return strategy == null ? "" : strategy.displayName();
+                }
+
+                @Override
+                public CpuStrategy fromString(String name) {
+                    return null; // Not editable
+                }
+            });
+            choice.setValue(CpuStrategies.defaultStrategy());
+        }
+
         // Load and apply card back (or start_casino) as background
         try {
-            Image bgImage = new Image(
-                    getClass().getResourceAsStream("/org/example/mini/view/images/_/start_casino.png")
-            );
+            // Decoded at the width of the start view instead of the full asset size
+            Image bgImage = ImageCache.get(BACKGROUND_PATH, BACKGROUND_WIDTH, 0);
 
             BackgroundImage backgroundImage = new BackgroundImage(
                     bgImage,
@@ -132,28 +190,40 @@ public class StartController {
         );
         Parent root = loader.load();
 
-        // Obtain the controller and initialize the game with the number of CPUs
+        // Obtain the controller and initialize the game with the chosen strategy of each CPU
+        List<CpuStrategy> strategies = new ArrayList<>();
+        for (ChoiceBox<CpuStrategy> choice : strategyChoices().subList(0, numCPUs)) {
+            strategies.add(choice.getValue() != null ? choice.getValue() : CpuStrategies.defaultStrategy());
+        }
         GameController gameController = loader.getController();
-        gameController.initializeGame(numCPUs); // Indicate the number of CPU to play
+        gameController.initializeGame(strategies); // One CPU per strategy
 
         // ADD THE ICON TO THE GAME WINDOW
         try {
-            Image icon = new Image(
-                    getClass().getResourceAsStream("/org/example/mini/view/images/_/poker-cards.png")
-            );
-            if (icon != null) {
+            Image icon = ImageCache.icon();
+            if (!stage.getIcons().contains(icon)) {
                 stage.getIcons().add(icon);
-            } else {
-                System.err.println("Icon resource not found: /org/example/mini/view/images/_/poker-cards.png");
             }
         } catch (Exception e) {
             System.err.println("No se pudo cargar el icono: " + e.getMessage());
             // Do not stop the application if there is an error with the icon
         }
 
+        // Release the game threads when the window is closed
+        stage.setOnHidden(e -> gameController.shutdown());
+
         // Change the scene to the game view
         stage.setTitle("Cincuentazo - Juego");
         stage.setScene(new Scene(root));
         stage.show();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the strategy choices in seat order.
+     *
+     * @return the choice boxes of CPU 1, 2 and 3
+     */
+    private List<ChoiceBox<CpuStrategy>> strategyChoices() {
+        return List.of(cpu1Strategy, cpu2Strategy, cpu3Strategy);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.mini.model;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.rules.LegalMoves;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Table} that can be shared by several threads without locks.
+ * <p>
+ * The whole table state (pile and sum) is one immutable {@link State}
+ * object: the top card, the sum, the card count and a link to the state
+ * below it, forming a persistent stack. Every change builds a new state
+ * from the one it read and publishes it with a single compare-and-set, so a
+ * placement is always validated against exactly the sum it commits: two
+ * concurrent placements can never both pass the limit check and overshoot
+ * it. A failed compare-and-set simply retries against the newer state.
+ * </p>
+ * <p>
+ * {@link #getLastCard()}, {@link #getTableSum()} and {@link #getCardCount()}
+ * are single volatile reads, so UI and monitor threads can sample the table
+ * wait-free. Listeners are notified after each successful change on the
+ * thread that made it; with several writers, notifications of different
+ * changes may arrive in any order.
+ * </p>
+ */
+public class ConcurrentTable extends Table {
+
+    /**
+     * Immutable snapshot of the table: the top card plus the state below it.
+     */
+    private static final class State {
+        final Card card;
+        final int sum;
+        final int count;
+        final State below;
+
+        State(Card card, int sum, int count, State below) {
+            this.card = card;
+            this.sum = sum;
+            this.count = count;
+            this.below = below;
+        }
+    }
+
+    /**
+     * State of an empty table.
+     */
+    private static final State EMPTY = new State(null, 0, 0, null);
+
+    /**
+     * Current table state, replaced as a whole on every change.
+     */
+    private final AtomicReference<State> state = new AtomicReference<>(EMPTY);
+
+    /**
+     * Places a card on the table if the move is valid.
+     * <p>
+     * The card's value is computed from the sum of the state the placement is
+     * committed on; if another thread changes the table in between, the
+     * value and the limit check are computed again.
+     * </p>
+     *
+     * @param card          the card to place on the table
+     * @param isHumanPlayer {@code true} if the card is played by a human player,
+     *                      {@code false} if played by a CPU player
+     * @return {@code true} if the card was placed and the sum updated,
+     * {@code false} if the move was invalid (sum would exceed 50)
+     */
+    @Override
+    public boolean placeCard(Card card, boolean isHumanPlayer) {
+        while (true) {
+            State current = state.get();
+            int newValue = LegalMoves.resultingSum(card, current.sum, isHumanPlayer);
+
+            // Main rule validation: total must not exceed 50
+            if (!LegalMoves.isLegalSum(newValue)) {
+                if (isVerbose()) {
+                    System.out.println("Move not allowed: total would exceed 50 (" + newValue + ")");
+                }
+                return false;
+            }
+
+            if (state.compareAndSet(current, new State(card, newValue, current.count + 1, current))) {
+                fireCardPlaced(card, newValue);
+                if (isVerbose()) {
+                    System.out.println("SUCCESS - Card placed. New table sum: " + newValue);
+                }
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public Card getLastCard() {
+        return state.get().card;
+    }
+
+    @Override
+    public int getTableSum() {
+        return state.get().sum;
+    }
+
+    @Override
+    public int getCardCount() {
+        return state.get().count;
+    }
+
+    /**
+     * Returns all cards currently on the table, in the order they were played.
+     * <p>
+     * The list is a copy of one consistent state of the table.
+     * </p>
+     *
+     * @return a new {@link List} containing all cards on the table
+     */
+    @Override
+    public List<Card> getCards() {
+        return toList(state.get(), 0);
+    }
+
+    @Override
+    public void setTableSum(int value) {
+        State current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, new State(current.card, value, current.count, current.below)));
+        fireSumChanged(value);
+    }
+
+    /**
+     * Removes all cards from the table except the last one and recalculates the sum.
+     * <p>
+     * The pile below the last card is detached in a single compare-and-set;
+     * the returned list is built from the detached states afterwards.
+     * </p>
+     *
+     * @return a list containing all removed cards (all except the last one);
+     *         if there are zero or one cards on the table, an empty list is returned
+     */
+    @Override
+    public List<Card> removeAllButLastCard() {
+        State current;
+        State kept;
+        do {
+            current = state.get();
+            if (current.count <= 1) {
+                return new ArrayList<>(); // No cards to remove or only one card
+            }
+            kept = new State(current.card, current.card.getGameValue(0, true), 1, null);
+        } while (!state.compareAndSet(current, kept));
+
+        if (isVerbose()) {
+            System.out.println("Table reset: kept " + kept.card + ", sum is now " + kept.sum);
+        }
+        fireTableRecycled(kept.card, kept.sum);
+        return toList(current, 1);
+    }
+
+    @Override
+    public void reset() {
+        state.set(EMPTY);
+        fireTableCleared();
+    }
+
+    @Override
+    public String toString() {
+        State current = state.get();
+        return "Table{sum=" + current.sum + ", cards=" + current.count + "}";
+    }
+
+    /**
+     * Lists the cards of a state in the order they were played.
+     *
+     * @param top  the state to list
+     * @param skip number of cards to leave out from the top
+     * @return a new list of the cards, oldest first
+     */
+    private static List<Card> toList(State top, int skip) {
+        State node = top;
+        for (int i = 0; i < skip && node.count > 0; i++) {
+            node = node.below;
+        }
+        Card[] cards = new Card[node.count];
+        for (int i = cards.length - 1; i >= 0; i--) {
+            cards[i] = node.card;
+            node = node.below;
+        }
+        return new ArrayList<>(Arrays.asList(cards));
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.mini.model;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Copy-on-write list of listeners.
+ * <p>
+ * The backing array is replaced on every registration change, so notifying
+ * listeners needs no lock and allocates nothing: callers iterate over the
+ * array returned by {@link #get()}, which is never modified afterwards.
+ * Registrations are rare and synchronized.
+ * </p>
+ *
+ * @param <L> the listener type
+ */
+public final class ListenerList<L> {
+
+    /**
+     * Creates arrays of the listener type.
+     */
+    private final IntFunction<L[]> newArray;
+
+    /**
+     * Current listeners, replaced as a whole on every change.
+     */
+    private volatile L[] listeners;
+
+    /**
+     * Creates an empty listener list.
+     *
+     * @param newArray creates an array of listeners of the given length,
+     *                 usually a constructor reference such as {@code TableListener[]::new}
+     */
+    public ListenerList(IntFunction<L[]> newArray) {
+        this.newArray = newArray;
+        this.listeners = newArray.apply(0);
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void add(L listener) {
+        L[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove; ignored if it is not registered
+     */
+    public synchronized void remove(L listener) {
+        L[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                L[] updated = newArray.apply(current.length - 1);
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the listeners registered at the time of the call.
+     *
+     * @return the current listener array; callers must not modify it
+     */
+    public L[] get() {
+        return listeners;
+    }
+}
@@ -2,8 +2,10 @@ package org.example.mini.model;
 
 import org.example.mini.model.card.Card;
 import org.example.mini.model.deck.Deck;
+import org.example.mini.model.rules.LegalMoves;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -15,19 +17,163 @@ import java.util.List;
  * accumulated sum of their values according to the game rules. It also
  * provides utility operations used when recycling cards back into the deck.
  * </p>
+ * <p>
+ * Every change is published to the registered {@link TableListener}s, so
+ * views can redraw only when the table actually changes instead of polling it.
+ * </p>
+ * <p>
+ * The pile is a plain card array that only grows by doubling. Recycling
+ * hands the whole array over to the caller and starts a fresh one, so no
+ * card is copied or moved when the table is emptied into the deck.
+ * </p>
+ * <p>
+ * A {@code Table} is meant to be used by one thread at a time (see
+ * {@link org.example.mini.model.game.GameLoop}); {@link ConcurrentTable} can
+ * be shared between threads.
+ * </p>
  */
 public class Table {
 
     /**
-     * List of cards currently on the table, in the order they were played.
+     * Initial capacity of the pile; enough for most rounds without growing.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Cards currently on the table, in the order they were played, in
+     * {@code pile[0..size)}.
+     */
+    private Card[] pile = new Card[INITIAL_CAPACITY];
+
+    /**
+     * Number of cards on the table.
+     */
+    private int size;
+
+    /**
+     * Read-only live view of the pile.
      */
-    private final List<Card> cards = new ArrayList<>();
+    private final List<Card> view = new PileView();
 
     /**
      * Current sum of the values of all cards on the table.
      */
     private int tableSum = 0;
 
+    /**
+     * Whether table operations are logged to the console.
+     */
+    private boolean verbose = true;
+
+    /**
+     * Listeners notified of every table change.
+     */
+    private final ListenerList<TableListener> listeners = new ListenerList<>(TableListener[]::new);
+
+    /**
+     * Creates an empty table.
+     */
+    public Table() {
+    }
+
+    /**
+     * Creates a table that already holds a pile, to rebuild a game in progress.
+     * <p>
+     * The cards are taken as played and are not validated again: the sum of
+     * a pile depends on who played each card (the Ace rule differs for
+     * humans and CPUs), which the pile alone does not record, so the sum is
+     * given as well. No listener is notified.
+     * </p>
+     *
+     * @param cards    the cards on the table, in the order they were played
+     * @param tableSum the current table sum
+     */
+    public Table(List<Card> cards, int tableSum) {
+        pile = cards.toArray(new Card[Math.max(INITIAL_CAPACITY, cards.size())]);
+        size = cards.size();
+        this.tableSum = tableSum;
+    }
+
+    /**
+     * Registers a listener that will be notified of every table change.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(TableListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove; ignored if it is not registered
+     */
+    public void removeListener(TableListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Enables or disables console logging of table operations.
+     *
+     * @param verbose {@code true} to log placements and resets, {@code false} to stay silent
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Returns whether table operations are logged to the console.
+     *
+     * @return {@code true} if logging is enabled
+     */
+    protected boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Notifies the listeners that a card was placed.
+     *
+     * @param card   the card placed
+     * @param newSum the table sum after the placement
+     */
+    protected void fireCardPlaced(Card card, int newSum) {
+        for (TableListener listener : listeners.get()) {
+            listener.onCardPlaced(card, newSum);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the sum was set directly.
+     *
+     * @param newSum the new table sum
+     */
+    protected void fireSumChanged(int newSum) {
+        for (TableListener listener : listeners.get()) {
+            listener.onSumChanged(newSum);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the table was recycled into the deck.
+     *
+     * @param keptCard the card left on the table
+     * @param newSum   the table sum after the recycle
+     */
+    protected void fireTableRecycled(Card keptCard, int newSum) {
+        for (TableListener listener : listeners.get()) {
+            listener.onTableRecycled(keptCard, newSum);
+        }
+    }
+
+    /**
+     * Notifies the listeners that the table was cleared.
+     */
+    protected void fireTableCleared() {
+        for (TableListener listener : listeners.get()) {
+            listener.onTableCleared();
+        }
+    }
+
     /**
      * Places a card on the table if the move is valid.
      * <p>
@@ -48,8 +194,8 @@ public class Table {
     /**
      * Places a card on the table if the move is valid.
      * <p>
-     * The effective value of the card is computed via
-     * {@link Card#getGameValue(int, boolean)}, taking into account whether
+     * The resulting sum is computed once via
+     * {@link LegalMoves#resultingSum(Card, int, boolean)}, taking into account whether
      * the player is human (for example, for Ace behaviour). If adding this
      * value to the current table sum would exceed 50, the card is not placed
      * and the method returns {@code false}.
@@ -63,25 +209,34 @@ public class Table {
      */
     public boolean placeCard(Card card, boolean isHumanPlayer) {
         int currentSum = tableSum;
-        int cardValue = card.getGameValue(currentSum, isHumanPlayer);
-        int newValue = currentSum + cardValue;
+        int newValue = LegalMoves.resultingSum(card, currentSum, isHumanPlayer);
 
-        System.out.println("DEBUG - Placing card: " + card +
-                ", Current sum: " + currentSum +
-                ", Card value: " + cardValue +
-                ", New sum: " + newValue);
+        if (verbose) {
+            System.out.println("DEBUG - Placing card: " + card +
+                    ", Current sum: " + currentSum +
+                    ", Card value: " + (newValue - currentSum) +
+                    ", New sum: " + newValue);
+        }
 
         // Main rule validation: total must not exceed 50
-        if (newValue > 50) {
-            System.out.println("Move not allowed: total would exceed 50 (" + newValue + ")");
+        if (!LegalMoves.isLegalSum(newValue)) {
+            if (verbose) {
+                System.out.println("Move not allowed: total would exceed 50 (" + newValue + ")");
+            }
             return false;
         }
 
         // Valid move - add card to table and update sum
-        cards.add(card);
+        if (size == pile.length) {
+            pile = Arrays.copyOf(pile, size * 2);
+        }
+        pile[size++] = card;
         tableSum = newValue;
+        fireCardPlaced(card, newValue);
 
-        System.out.println("SUCCESS - Card placed. New table sum: " + tableSum);
+        if (verbose) {
+            System.out.println("SUCCESS - Card placed. New table sum: " + tableSum);
+        }
         return true;
     }
 
@@ -91,7 +246,7 @@ public class Table {
      * @return the most recently played {@link Card}, or {@code null} if the table is empty
      */
     public Card getLastCard() {
-        return cards.isEmpty() ? null : cards.get(cards.size() - 1);
+        return size == 0 ? null : pile[size - 1];
     }
 
     /**
@@ -106,14 +261,14 @@ public class Table {
     /**
      * Returns all cards currently on the table.
      * <p>
-     * A defensive copy is returned to prevent external modification of the
-     * internal list.
+     * The returned list is a read-only live view in the order the cards were
+     * played; copy it if a snapshot is needed.
      * </p>
      *
-     * @return a new {@link List} containing all cards on the table
+     * @return List of cards on the table
      */
     public List<Card> getCards() {
-        return new ArrayList<>(cards); // Return copy to avoid external modification
+        return view;
     }
 
     /**
@@ -123,15 +278,16 @@ public class Table {
      */
     public void setTableSum(int value) {
         this.tableSum = value;
+        fireSumChanged(value);
     }
 
     /**
      * Returns the current number of cards held in this collection.
      *
-     * @return the total count of cards in {@code cards}
+     * @return the number of cards on the table
      */
     public int getCardCount() {
-        return cards.size();
+        return size;
     }
 
     /**
@@ -142,26 +298,34 @@ public class Table {
      * table keeps only that last card. The {@code tableSum} is recalculated
      * using the basic value of the remaining card.
      * </p>
+     * <p>
+     * The removed cards are not copied: the returned list is a read-only
+     * view over the old pile array, which the table no longer touches, and
+     * the table continues on a fresh array.
+     * </p>
      *
      * @return a list containing all removed cards (all except the last one);
      *         if there are zero or one cards on the table, an empty list is returned
      */
     public List<Card> removeAllButLastCard() {
-        if (cards.size() <= 1) {
-            return new ArrayList<>(); // No cards to remove or only one card
+        if (size <= 1) {
+            return List.of(); // No cards to remove or only one card
         }
 
-        List<Card> removedCards = new ArrayList<>(cards.subList(0, cards.size() - 1));
-        Card lastCard = cards.get(cards.size() - 1);
-
-        // Clear the table and keep only the last card
-        cards.clear();
-        cards.add(lastCard);
+        // Hand the old pile over and keep only the last card on a fresh one
+        Card lastCard = pile[size - 1];
+        List<Card> removedCards = new RemovedCards(pile, size - 1);
+        pile = new Card[INITIAL_CAPACITY];
+        pile[0] = lastCard;
+        size = 1;
 
         // Recalculate the sum based only on the remaining card (basic value)
         tableSum = lastCard.getGameValue(0, true);
 
-        System.out.println("Table reset: kept " + lastCard + ", sum is now " + tableSum);
+        if (verbose) {
+            System.out.println("Table reset: kept " + lastCard + ", sum is now " + tableSum);
+        }
+        fireTableRecycled(lastCard, tableSum);
 
         return removedCards;
     }
@@ -170,8 +334,10 @@ public class Table {
      * Resets the table (clears all cards and sets sum to 0)
      */
     public void reset() {
-        cards.clear();
+        Arrays.fill(pile, 0, size, null);
+        size = 0;
         tableSum = 0;
+        fireTableCleared();
     }
 
     /**
@@ -185,6 +351,52 @@ public class Table {
      */
     @Override
     public String toString() {
-        return "Table{sum=" + tableSum + ", cards=" + cards.size() + "}";
+        return "Table{sum=" + tableSum + ", cards=" + size + "}";
+    }
+
+    /**
+     * Read-only live view of the pile, in the order the cards were played.
+     */
+    private final class PileView extends AbstractList<Card> {
+
+        @Override
+        public Card get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return pile[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Read-only list over a pile array handed off by a recycle.
+     */
+    private static final class RemovedCards extends AbstractList<Card> {
+
+        private final Card[] cards;
+        private final int count;
+
+        RemovedCards(Card[] cards, int count) {
+            this.cards = cards;
+            this.count = count;
+        }
+
+        @Override
+        public Card get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            return cards[index];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
     }
 }
\ No newline at end of file
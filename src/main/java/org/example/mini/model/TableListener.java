@@ -0,0 +1,48 @@
+package org.example.mini.model;
+
+import org.example.mini.model.card.Card;
+
+/**
+ * Receives notifications when the state of a {@link Table} changes.
+ * <p>
+ * Events are delivered synchronously on the thread that modified the table.
+ * Listeners that update a user interface are responsible for moving the work
+ * to the UI thread (for example with {@code Platform.runLater}). All methods
+ * have empty default implementations so listeners only override what they need.
+ * </p>
+ */
+public interface TableListener {
+
+    /**
+     * Called after a card has been placed on the table.
+     *
+     * @param card   the card that was placed
+     * @param newSum the table sum after placing the card
+     */
+    default void onCardPlaced(Card card, int newSum) {
+    }
+
+    /**
+     * Called after the table sum was set directly, without placing a card.
+     *
+     * @param newSum the new table sum
+     */
+    default void onSumChanged(int newSum) {
+    }
+
+    /**
+     * Called after all cards except the last one were removed from the table
+     * to be recycled into the deck.
+     *
+     * @param keptCard the card that stays on the table
+     * @param newSum   the table sum after the recycle
+     */
+    default void onTableRecycled(Card keptCard, int newSum) {
+    }
+
+    /**
+     * Called after the table has been cleared completely.
+     */
+    default void onTableCleared() {
+    }
+}
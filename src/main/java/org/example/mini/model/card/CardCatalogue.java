@@ -0,0 +1,161 @@
+package org.example.mini.model.card;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Canonical set of the 52 standard playing cards.
+ * <p>
+ * Every standard card exists exactly once per JVM and is identified by an
+ * ordinal in {@code [0, 52)}. Since {@link Card} is immutable, the same
+ * instances are shared by every deck, table, hand and game, including games
+ * running concurrently on different threads.
+ * </p>
+ * <p>
+ * Ordinals are laid out rank-major: {@code ordinal = rankIndex * 4 + suitIndex},
+ * with ranks ordered as in {@link #RANKS} and suits as in {@link #SUITS}.
+ * </p>
+ */
+public final class CardCatalogue {
+
+    /**
+     * Suit names, indexed by suit code.
+     */
+    public static final List<String> SUITS = List.of("hearts", "spades", "clubs", "diamonds");
+
+    /**
+     * Rank names, indexed by rank code.
+     */
+    public static final List<String> RANKS = List.of("A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K");
+
+    /** Rank code of the Ace. */
+    public static final int ACE = 0;
+
+    /** Rank code of the Nine. */
+    public static final int NINE = 8;
+
+    /** Rank code of the Jack. */
+    public static final int JACK = 10;
+
+    /** Rank code of the Queen. */
+    public static final int QUEEN = 11;
+
+    /** Rank code of the King. */
+    public static final int KING = 12;
+
+    /**
+     * Number of cards in the catalogue.
+     */
+    public static final int SIZE = 52;
+
+    /**
+     * Shared card instances, indexed by ordinal.
+     */
+    private static final Card[] CARDS = new Card[SIZE];
+
+    static {
+        for (int rank = 0; rank < RANKS.size(); rank++) {
+            for (int suit = 0; suit < SUITS.size(); suit++) {
+                CARDS[ordinalOf(rank, suit)] = new Card(SUITS.get(suit), RANKS.get(rank));
+            }
+        }
+    }
+
+    /**
+     * Read-only view of every card in ordinal order.
+     */
+    private static final List<Card> ALL = Collections.unmodifiableList(Arrays.asList(CARDS));
+
+    private CardCatalogue() {
+    }
+
+    /**
+     * Returns the shared card with the given ordinal.
+     *
+     * @param ordinal the card ordinal, in {@code [0, 52)}
+     * @return the canonical {@link Card}
+     * @throws ArrayIndexOutOfBoundsException if the ordinal is out of range
+     */
+    public static Card get(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Returns the shared card with the given suit and rank.
+     *
+     * @param suit the suit name (e.g. {@code "hearts"})
+     * @param rank the rank name (e.g. {@code "A"}, {@code "10"}, {@code "KING"})
+     * @return the canonical {@link Card}
+     * @throws IllegalArgumentException if the suit or rank is not a standard one
+     */
+    public static Card of(String suit, String rank) {
+        int rankIndex = rankIndexOf(rank.trim());
+        int suitIndex = suitIndexOf(suit);
+        if (rankIndex < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Not a standard card: " + rank + " of " + suit);
+        }
+        return CARDS[ordinalOf(rankIndex, suitIndex)];
+    }
+
+    /**
+     * Returns all 52 cards in ordinal order.
+     *
+     * @return an unmodifiable list of the canonical cards
+     */
+    public static List<Card> all() {
+        return ALL;
+    }
+
+    /**
+     * Computes the ordinal of a card from its rank and suit codes.
+     *
+     * @param rankIndex the rank code
+     * @param suitIndex the suit code
+     * @return the card ordinal
+     */
+    public static int ordinalOf(int rankIndex, int suitIndex) {
+        return rankIndex * 4 + suitIndex;
+    }
+
+    /**
+     * Parses a rank name into its rank code.
+     * <p>
+     * Both short and long names are accepted, in any letter case
+     * ({@code "A"}/{@code "ACE"}, {@code "9"}/{@code "NINE"},
+     * {@code "J"}/{@code "JACK"}, {@code "Q"}/{@code "QUEEN"},
+     * {@code "K"}/{@code "KING"}).
+     * </p>
+     *
+     * @param rank the rank name, already trimmed
+     * @return the rank code, or {@code -1} if the rank is unknown
+     */
+    static int rankIndexOf(String rank) {
+        switch (rank.toUpperCase()) {
+            case "A": case "ACE": return ACE;
+            case "2": return 1;
+            case "3": return 2;
+            case "4": return 3;
+            case "5": return 4;
+            case "6": return 5;
+            case "7": return 6;
+            case "8": return 7;
+            case "9": case "NINE": return NINE;
+            case "10": return 9;
+            case "J": case "JACK": return JACK;
+            case "Q": case "QUEEN": return QUEEN;
+            case "K": case "KING": return KING;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Parses a suit name into its suit code.
+     *
+     * @param suit the suit name, in any letter case
+     * @return the suit code, or {@code -1} if the suit is unknown
+     */
+    static int suitIndexOf(String suit) {
+        return SUITS.indexOf(suit.toLowerCase());
+    }
+}
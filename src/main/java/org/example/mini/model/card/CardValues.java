@@ -0,0 +1,176 @@
+package org.example.mini.model.card;
+
+/**
+ * Precomputed card values for every rank, table sum and Ace policy.
+ * <p>
+ * The only value that depends on the table sum is the Ace, and it only
+ * changes between sums {@code 40} and {@code 41}. The table therefore covers
+ * sums in {@code [MIN_SUM, MAX_SUM]} and any other sum is clamped into that
+ * range, which yields the exact value for every reachable sum, including the
+ * negative sums produced by J, Q and K. A lookup is a clamp plus one array
+ * load: no branches on the rank, no strings and no allocation.
+ * </p>
+ */
+public final class CardValues {
+
+    /**
+     * Lowest sum stored explicitly in the table.
+     */
+    public static final int MIN_SUM = -256;
+
+    /**
+     * Highest sum stored explicitly in the table.
+     */
+    public static final int MAX_SUM = 63;
+
+    /**
+     * Largest table sum allowed by the rules.
+     */
+    public static final int LIMIT = 50;
+
+    /**
+     * Number of sums per row.
+     */
+    private static final int SUM_RANGE = MAX_SUM - MIN_SUM + 1;
+
+    /**
+     * Number of rank rows: row {@code 0} is the unknown rank, rows
+     * {@code 1..13} are the rank codes shifted by one.
+     */
+    private static final int RANK_ROWS = CardCatalogue.RANKS.size() + 1;
+
+    /**
+     * Bits of the four suits of one rank; ordinals are rank-major, so they are adjacent.
+     */
+    private static final long SUITS_OF_RANK = (1L << CardCatalogue.SUITS.size()) - 1;
+
+    /**
+     * Card values indexed by {@code [policy][rank + 1][sum - MIN_SUM]}, flattened.
+     * Policy {@code 0} is the human Ace rule, policy {@code 1} the CPU rule.
+     */
+    private static final byte[] VALUES = new byte[2 * RANK_ROWS * SUM_RANGE];
+
+    /**
+     * Masks of the playable catalogue cards indexed by {@code [policy][sum - MIN_SUM]},
+     * flattened; bit {@code i} stands for the card with ordinal {@code i}.
+     */
+    private static final long[] PLAYABLE = new long[2 * SUM_RANGE];
+
+    static {
+        for (int policy = 0; policy < 2; policy++) {
+            for (int rank = -1; rank < CardCatalogue.RANKS.size(); rank++) {
+                for (int sum = MIN_SUM; sum <= MAX_SUM; sum++) {
+                    VALUES[index(rank, sum, policy == 0)] = (byte) computeValue(rank, sum, policy == 0);
+                }
+            }
+            for (int sum = MIN_SUM; sum <= MAX_SUM; sum++) {
+                long mask = 0L;
+                for (int rank = 0; rank < CardCatalogue.RANKS.size(); rank++) {
+                    if (canBePlayed(rank, sum, policy == 0)) {
+                        mask |= SUITS_OF_RANK << CardCatalogue.ordinalOf(rank, 0);
+                    }
+                }
+                PLAYABLE[policy * SUM_RANGE + sum - MIN_SUM] = mask;
+            }
+        }
+    }
+
+    private CardValues() {
+    }
+
+    /**
+     * Returns the value of a rank at the given table sum.
+     *
+     * @param rankIndex  the rank code, or {@code -1} for an unknown rank
+     * @param currentSum the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return the value the card adds to the table
+     */
+    public static int value(int rankIndex, int currentSum, boolean isForHuman) {
+        return VALUES[index(rankIndex, currentSum, isForHuman)];
+    }
+
+    /**
+     * Checks whether a rank can be played without exceeding {@link #LIMIT}.
+     *
+     * @param rankIndex  the rank code, or {@code -1} for an unknown rank
+     * @param currentSum the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return {@code true} if the resulting sum would be at most {@link #LIMIT}
+     */
+    public static boolean canBePlayed(int rankIndex, int currentSum, boolean isForHuman) {
+        return currentSum + VALUES[index(rankIndex, currentSum, isForHuman)] <= LIMIT;
+    }
+
+    /**
+     * Returns the catalogue cards that can be played at the given table sum.
+     * <p>
+     * Bit {@code i} of the result is set when the card with ordinal {@code i}
+     * keeps the sum at most {@link #LIMIT}; intersecting it with a mask of the
+     * cards held gives the playable cards of a hand in one operation.
+     * </p>
+     *
+     * @param currentSum the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return a mask of the playable card ordinals
+     */
+    public static long playableCards(int currentSum, boolean isForHuman) {
+        int sum = Math.min(Math.max(currentSum, MIN_SUM), MAX_SUM) - MIN_SUM;
+        return PLAYABLE[(isForHuman ? 0 : SUM_RANGE) + sum];
+    }
+
+    /**
+     * Computes the flattened table index for a lookup.
+     *
+     * @param rankIndex  the rank code, or {@code -1}
+     * @param currentSum the table sum, clamped into the stored range
+     * @param isForHuman the Ace policy
+     * @return the index into {@link #VALUES}
+     */
+    private static int index(int rankIndex, int currentSum, boolean isForHuman) {
+        int sum = Math.min(Math.max(currentSum, MIN_SUM), MAX_SUM) - MIN_SUM;
+        int policy = isForHuman ? 0 : 1;
+        return (policy * RANK_ROWS + rankIndex + 1) * SUM_RANGE + sum;
+    }
+
+    /**
+     * Applies the game rules to compute the value of a rank.
+     * <p>
+     * Supported ranks and their values:
+     * </p>
+     * <ul>
+     *     <li>{@code 2, 3, 4, 5, 6, 7, 8, 10} → numeric value.</li>
+     *     <li>{@code 9} → {@code 0}.</li>
+     *     <li>{@code J, Q, K} → {@code -10}.</li>
+     *     <li>{@code A} → {@code 10}, or {@code 1} when {@code 10} would be too much
+     *         (human: {@code currentSum + 10 > 50}; CPU: {@code currentSum > 40}).</li>
+     *     <li>Unknown rank → {@code 0}.</li>
+     * </ul>
+     *
+     * @param rankIndex  the rank code, or {@code -1}
+     * @param currentSum the current table sum
+     * @param isForHuman {@code true} for the human Ace rule, {@code false} for the CPU rule
+     * @return the card value according to game rules
+     */
+    private static int computeValue(int rankIndex, int currentSum, boolean isForHuman) {
+        switch (rankIndex) {
+            case CardCatalogue.ACE:
+                if (isForHuman) {
+                    return (currentSum + 10 <= LIMIT) ? 10 : 1;
+                }
+                return (currentSum > 40) ? 1 : 10;
+            case CardCatalogue.NINE:
+                return 0;
+            case CardCatalogue.JACK:
+            case CardCatalogue.QUEEN:
+            case CardCatalogue.KING:
+                return -10;
+            default:
+                // Ranks 2..8 and 10 are stored in order, so the code maps to the face value
+                return rankIndex > 0 ? rankIndex + 1 : 0;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package org.example.mini.model.deck;
 
 import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
 import org.example.mini.model.exceptions.EmptyDeckException;
 
-import java.util.Collections;
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a standard shuffled deck of 52 playing cards.
+ * Represents a shuffled deck of playing cards (one or more standard 52-card decks).
  * <p>
  * The deck is initialized with all combinations of 4 suits
  * ({@code hearts}, {@code spades}, {@code clubs}, {@code diamonds})
@@ -17,61 +19,157 @@ import java.util.List;
  * additional cards can be recycled from the table and reshuffled into
  * the deck.
  * </p>
+ * <p>
+ * Cards are stored in a fixed-size ring buffer with a cursor on the top
+ * card, so drawing and returning a card cost O(1) and allocate nothing.
+ * The buffer only grows if more cards are returned than it can hold.
+ * </p>
+ * <p>
+ * Every deck shuffles with its own {@link RandomGenerator}, so decks of
+ * different games never contend on a shared random source and a seeded
+ * generator makes the card order reproducible.
+ * </p>
  */
 public class Deck {
 
     /**
-     * Internal list holding the cards in draw order.
-     * The card at index {@code 0} is considered the top of the deck.
+     * Ring buffer holding the cards in draw order; its length is a power of two.
+     */
+    private Card[] cards;
+
+    /**
+     * Index in {@link #cards} of the top of the deck.
+     */
+    private int head;
+
+    /**
+     * Number of cards currently in the deck.
+     */
+    private int count;
+
+    /**
+     * Read-only live view of the cards in draw order.
+     */
+    private final List<Card> view = new CardsView();
+
+    /**
+     * Random source used for every shuffle of this deck.
+     */
+    private final RandomGenerator random;
+
+    /**
+     * Whether deck operations are logged to the console.
      */
-    private final List<Card> cards;
+    private boolean verbose = true;
 
     /**
      * Constructs a new {@code Deck} with 52 cards and shuffles it.
      * <p>
-     * The deck is built from the four suits
+     * The deck holds the shared instances from {@link CardCatalogue}, i.e.
+     * every combination of the four suits
      * ({@code "hearts", "spades", "clubs", "diamonds"}) and the ranks
      * ({@code "A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"}).
-     * After creation, the cards are shuffled using {@link #shuffle()}.
+     * After creation, the cards are shuffled using {@link #shuffle()}
+     * with an unseeded generator.
      * </p>
      */
     public Deck() {
-        cards = new ArrayList<>();
-        String[] suits = {"hearts", "spades", "clubs", "diamonds"};
-        String[] values = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+        this(1, new SplittableRandom());
+    }
 
-        for (String v : values) {
-            for (String s : suits) {
-                cards.add(new Card(s, v));
+    /**
+     * Constructs a shuffled 52-card deck that draws its randomness from the given source.
+     *
+     * @param random random source used for this deck's shuffles
+     */
+    public Deck(RandomGenerator random) {
+        this(1, random);
+    }
+
+    /**
+     * Constructs a shuffled deck made of several standard 52-card decks.
+     *
+     * @param deckCount number of standard decks to combine (at least 1)
+     * @param random    random source used for this deck's shuffles
+     */
+    public Deck(int deckCount, RandomGenerator random) {
+        if (deckCount < 1) {
+            throw new IllegalArgumentException("A deck needs at least one set of cards: " + deckCount);
+        }
+        this.random = random;
+        cards = new Card[capacityFor(deckCount * CardCatalogue.SIZE)];
+        for (int d = 0; d < deckCount; d++) {
+            for (Card card : CardCatalogue.all()) {
+                cards[count++] = card;
             }
         }
-
         shuffle();
     }
 
+    /**
+     * Constructs a deck holding exactly the given cards, in draw order.
+     * <p>
+     * The cards are not shuffled; this is used to rebuild a deck whose order
+     * is known or has been sampled, e.g. for search playouts.
+     * </p>
+     *
+     * @param cardsInDrawOrder the cards, top of the deck first
+     * @param random           random source used for later shuffles
+     */
+    public Deck(List<Card> cardsInDrawOrder, RandomGenerator random) {
+        this.random = random;
+        cards = new Card[capacityFor(Math.max(cardsInDrawOrder.size(), 1))];
+        for (int i = 0, n = cardsInDrawOrder.size(); i < n; i++) {
+            cards[count++] = cardsInDrawOrder.get(i);
+        }
+    }
+
+    /**
+     * Enables or disables console logging of deck operations.
+     *
+     * @param verbose {@code true} to log reshuffles, {@code false} to stay silent
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
     /**
      * Randomly shuffles the cards currently in the deck.
      * <p>
-     * Uses {@link Collections#shuffle(List)} to reorder the internal card list.
+     * Performs an in-place Fisher–Yates shuffle over the cards in the buffer,
+     * using this deck's own random source.
      * </p>
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        int mask = cards.length - 1;
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = (head + i) & mask;
+            int b = (head + j) & mask;
+            Card tmp = cards[a];
+            cards[a] = cards[b];
+            cards[b] = tmp;
+        }
     }
 
 
     /**
      * Gets all cards currently in the deck.
+     * <p>
+     * The returned list is a read-only live view in draw order: index
+     * {@code 0} is the top of the deck.
+     * </p>
+     *
      * @return List of cards in the deck
      */
     public List<Card> getCards() {
-        return cards;
+        return view;
     }
 
     /**
      * Draws a card from the top of the deck.
      * <p>
-     * The drawn card is removed from the internal list and returned to the caller.
+     * The drawn card is removed from the deck and returned to the caller.
      * If the deck is empty, an {@link EmptyDeckException} is thrown.
      * </p>
      *
@@ -82,7 +180,11 @@ public class Deck {
         if (isEmpty()) {
             throw new EmptyDeckException("Cannot draw from empty deck");
         }
-        return cards.remove(0);
+        Card card = cards[head];
+        cards[head] = null;
+        head = (head + 1) & (cards.length - 1);
+        count--;
+        return card;
     }
 
     /**
@@ -91,21 +193,27 @@ public class Deck {
      * @return the size of the deck
      */
     public int size() {
-        return cards.size();
+        return count;
     }
 
     /**
      * Returns a card to the bottom of the deck.
      * <p>
-     * The card is appended to the end of the internal list and will be drawn
-     * after all cards that are currently in the deck.
+     * The card is placed after all cards that are currently in the deck.
      * </p>
      *
      * @param card the {@link Card} to return to the deck; if {@code null},
      *             the method has no effect
      */
     public void returnCard(Card card) {
-        cards.add(card);
+        if (card == null) {
+            return;
+        }
+        if (count == cards.length) {
+            grow(count + 1);
+        }
+        cards[(head + count) & (cards.length - 1)] = card;
+        count++;
     }
 
     /**
@@ -113,8 +221,8 @@ public class Deck {
      * the existing cards.
      * <p>
      * This method is typically used when the deck becomes empty and cards
-     * need to be recycled from the table. All provided cards are appended
-     * to the internal list and the deck is then shuffled.
+     * need to be recycled from the table. All provided cards are placed at
+     * the bottom of the deck and the deck is then shuffled.
      * </p>
      *
      * @param tableCards the list of cards to add and reshuffle into the deck;
@@ -122,8 +230,15 @@ public class Deck {
      */
     public void reshuffleFromTable(List<Card> tableCards) {
         if (tableCards != null && !tableCards.isEmpty()) {
-            System.out.println("Reshuffling " + tableCards.size() + " cards from table into deck");
-            cards.addAll(tableCards);
+            if (verbose) {
+                System.out.println("Reshuffling " + tableCards.size() + " cards from table into deck");
+            }
+            if (count + tableCards.size() > cards.length) {
+                grow(count + tableCards.size());
+            }
+            for (int i = 0, n = tableCards.size(); i < n; i++) {
+                returnCard(tableCards.get(i));
+            }
             shuffle();
         }
     }
@@ -134,6 +249,50 @@ public class Deck {
      * @return {@code true} if the deck is empty, {@code false} otherwise
      */
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return count == 0;
+    }
+
+    /**
+     * Replaces the buffer with a larger one, moving the cards to the front.
+     *
+     * @param minCapacity number of cards the new buffer must hold
+     */
+    private void grow(int minCapacity) {
+        Card[] larger = new Card[capacityFor(minCapacity)];
+        int mask = cards.length - 1;
+        for (int i = 0; i < count; i++) {
+            larger[i] = cards[(head + i) & mask];
+        }
+        cards = larger;
+        head = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that can hold the given number of cards.
+     *
+     * @param cardCount number of cards to hold
+     * @return the buffer capacity
+     */
+    private static int capacityFor(int cardCount) {
+        return Math.max(2, Integer.highestOneBit(cardCount - 1) << 1);
+    }
+
+    /**
+     * Read-only list view over the ring buffer, in draw order.
+     */
+    private final class CardsView extends AbstractList<Card> {
+
+        @Override
+        public Card get(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+            }
+            return cards[(head + index) & (cards.length - 1)];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package org.example.mini.model.game;
 
+import org.example.mini.model.ListenerList;
 import org.example.mini.model.Table;
 import org.example.mini.model.card.Card;
 import org.example.mini.model.deck.Deck;
@@ -9,10 +10,23 @@ import org.example.mini.model.player.*;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
 /**
  * Main game controller that manages turns, players, the deck, and the table state.
  * Handles all core logic for the Cincuentazo game.
+ * <p>
+ * All randomness of a game comes from one master {@link SplittableGenerator}:
+ * the deck and every CPU player receive their own independent split, so a
+ * seeded master makes the whole game reproducible and games running on
+ * different threads never share a random source.
+ * </p>
+ * <p>
+ * Turn changes, eliminations and the end of the game are published to the
+ * registered {@link GameListener}s, so views can react to them instead of
+ * polling the current player.
+ * </p>
  */
 public class Game {
 
@@ -21,15 +35,35 @@ public class Game {
     private final List<IPlayer> players; // List of all players (human + CPUs)
     private int currentPlayerIndex;      // Index of the current player's turn
     private boolean gameOver;            // Flag to indicate if the game is over
+    private boolean verbose = true;      // Whether game progress is logged to the console
+    private final SplittableGenerator random; // Master random source of this game
+    private int tableRecycles;           // Number of times the table was recycled into the deck
+    private final ListenerList<GameListener> listeners = new ListenerList<>(GameListener[]::new);
 
     /**
-     * Constructor — initializes the table, deck, and players.
+     * Constructor — initializes the table, deck, and players with an unseeded
+     * random source.
      *
      * @param cpuCount number of CPU (machine) players to include
      */
     public Game(int cpuCount) {
+        this(cpuCount, new SplittableRandom());
+    }
+
+    /**
+     * Constructor — initializes the table, deck, and players.
+     * <p>
+     * The deck receives the first split of {@code random}, followed by one
+     * split per CPU player in seat order.
+     * </p>
+     *
+     * @param cpuCount number of CPU (machine) players to include
+     * @param random   master random source of the game
+     */
+    public Game(int cpuCount, SplittableGenerator random) {
+        this.random = random;
         this.table = new Table();
-        this.deck = new Deck();
+        this.deck = new Deck(random.split());
         this.players = new ArrayList<>();
 
         // Create one human player
@@ -37,18 +71,129 @@ public class Game {
 
         // Create the requested number of CPU players
         for (int i = 1; i <= cpuCount; i++) {
-            players.add(new MachinePlayer("CPU " + i));
+            players.add(new MachinePlayer("CPU " + i, random.split()));
         }
 
         this.currentPlayerIndex = 0;
         this.gameOver = false;
     }
 
+    /**
+     * Constructor — initializes a game with an explicit list of players.
+     * <p>
+     * The list order is the turn order (seat order). This is mainly used by
+     * headless simulations, where every seat is usually a {@link MachinePlayer}.
+     * </p>
+     *
+     * @param players the players taking part in the game; must not be empty
+     */
+    public Game(List<IPlayer> players) {
+        this(players, new SplittableRandom());
+    }
+
+    /**
+     * Constructor — initializes a game with an explicit list of players and
+     * a master random source.
+     * <p>
+     * The deck receives the next split of {@code random}. Players are created
+     * by the caller and should own their own splits of the same generator.
+     * </p>
+     *
+     * @param players the players taking part in the game; must not be empty
+     * @param random  master random source of the game
+     */
+    public Game(List<IPlayer> players, SplittableGenerator random) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("A game needs at least one player");
+        }
+        this.random = random;
+        this.table = new Table();
+        this.deck = new Deck(random.split());
+        this.players = new ArrayList<>(players);
+        this.currentPlayerIndex = 0;
+        this.gameOver = false;
+    }
+
+    /**
+     * Constructor — initializes a game with an explicit list of players, a
+     * prepared deck and a prepared table.
+     * <p>
+     * {@link #start()} deals from the given deck as is. Callers rebuilding a
+     * game already in progress (e.g. search playouts) instead fill the hands
+     * themselves, pass the table as it stands and do not call
+     * {@link #start()}; the first player of the list has the turn.
+     * </p>
+     *
+     * @param players the players taking part in the game; must not be empty
+     * @param deck    the deck to draw from
+     * @param table   the table to play on
+     * @param random  master random source of the game
+     */
+    public Game(List<IPlayer> players, Deck deck, Table table, SplittableGenerator random) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("A game needs at least one player");
+        }
+        this.random = random;
+        this.table = table;
+        this.deck = deck;
+        this.players = new ArrayList<>(players);
+        this.currentPlayerIndex = 0;
+        this.gameOver = false;
+    }
+
+    /**
+     * Derives a new independent random stream from this game's master generator.
+     * <p>
+     * Useful for components tied to this game that need randomness of their
+     * own (for example UI pacing), without sharing a generator across threads.
+     * </p>
+     *
+     * @return a fresh split of the master generator
+     */
+    public SplittableGenerator splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Registers a listener that will be notified of turn changes and eliminations.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove; ignored if it is not registered
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Enables or disables console logging for this game, its table and its deck.
+     *
+     * @param verbose {@code true} to log game progress, {@code false} to run silently
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+        table.setVerbose(verbose);
+        deck.setVerbose(verbose);
+    }
+
     /**
      * 🔹 Starts the game — deals cards and places the first card on the table.
+     * <p>
+     * Afterwards every {@link MachinePlayer} is told which game it plays in,
+     * so its strategy can follow the public state of the game.
+     * </p>
      */
     public void start() {
-        System.out.println("Game started with " + players.size() + " players.");
+        if (verbose) {
+            System.out.println("Game started with " + players.size() + " players.");
+        }
 
         // Deal 4 cards to each player
         for (IPlayer p : players) {
@@ -64,11 +209,19 @@ public class Game {
         Card initialCard = deck.draw();
         if (initialCard != null) {
             table.placeCard(initialCard, true);
-            System.out.println("Initial card: " + initialCard +
-                    " → initial sum = " + table.getTableSum());
+            if (verbose) {
+                System.out.println("Initial card: " + initialCard +
+                        " → initial sum = " + table.getTableSum());
+            }
         } else {
             System.out.println("Error: No cards available for initial table card!");
         }
+
+        for (IPlayer p : players) {
+            if (p instanceof MachinePlayer) {
+                ((MachinePlayer) p).joinGame(this);
+            }
+        }
     }
 
     /**
@@ -81,16 +234,38 @@ public class Game {
     }
 
     /**
-     * Advances the turn to the next player.
-     * Wraps around to the first player when reaching the end.
+     * Returns the seat index of the player whose turn it currently is.
+     *
+     * @return the current player's position in {@link #getPlayers()}
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Advances the turn to the next active player.
+     * Wraps around to the first player when reaching the end and skips
+     * players that have already been eliminated. Listeners are notified
+     * with {@link GameListener#onTurnStarted(IPlayer)}.
      */
     public void nextTurn() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        int size = players.size();
+        for (int step = 0; step < size; step++) {
+            currentPlayerIndex = (currentPlayerIndex + 1) % size;
+            if (players.get(currentPlayerIndex).isActive()) {
+                break;
+            }
+        }
+        IPlayer current = players.get(currentPlayerIndex);
+        for (GameListener listener : listeners.get()) {
+            listener.onTurnStarted(current);
+        }
     }
 
     /**
      * Checks if any players should be eliminated and whether the game should end.
      * Players are eliminated if they have no playable cards left.
+     * Listeners are notified of each elimination and, once, of the end of the game.
      */
     public void checkAndEliminatePlayers() {
         Iterator<IPlayer> iterator = players.iterator();
@@ -100,21 +275,38 @@ public class Game {
             // Eliminate inactive players with no playable cards
             if (player.isActive() && !player.hasPlayableCards(table.getTableSum())) {
                 player.setActive(false);
-                System.out.println(player.getName() + " has been eliminated!");
+                if (verbose) {
+                    System.out.println(player.getName() + " has been eliminated!");
+                }
 
                 // Return their remaining cards to the deck
                 for (Card card : player.getHand()) {
                     deck.returnCard(card);
                 }
                 player.getHand().clear();
+
+                for (GameListener listener : listeners.get()) {
+                    listener.onPlayerEliminated(player);
+                }
             }
         }
 
         // Check how many players are still active
-        long activePlayers = players.stream().filter(IPlayer::isActive).count();
-        if (activePlayers <= 1) {
+        int activePlayers = 0;
+        for (IPlayer player : players) {
+            if (player.isActive()) {
+                activePlayers++;
+            }
+        }
+        if (activePlayers <= 1 && !gameOver) {
             gameOver = true;
-            System.out.println("Game Over! Only " + activePlayers + " active player(s) remain.");
+            if (verbose) {
+                System.out.println("Game Over! Only " + activePlayers + " active player(s) remain.");
+            }
+            IPlayer winner = getWinner();
+            for (GameListener listener : listeners.get()) {
+                listener.onGameOver(winner);
+            }
         }
     }
 
@@ -124,10 +316,13 @@ public class Game {
      */
     private void ensureDeckHasCards() {
         if (deck.isEmpty()) {
-            System.out.println("Deck is empty — recycling cards from the table...");
+            if (verbose) {
+                System.out.println("Deck is empty — recycling cards from the table...");
+            }
             List<Card> recycledCards = table.removeAllButLastCard();
             if (!recycledCards.isEmpty()) {
                 deck.reshuffleFromTable(recycledCards);
+                tableRecycles++;
             }
         }
     }
@@ -142,6 +337,15 @@ public class Game {
         return deck.draw();
     }
 
+    /**
+     * Returns how many times the table has been recycled into the deck.
+     *
+     * @return the number of table recycles so far
+     */
+    public int getTableRecycles() {
+        return tableRecycles;
+    }
+
     /**
      * Returns the current table instance.
      *
@@ -0,0 +1,39 @@
+package org.example.mini.model.game;
+
+import org.example.mini.model.player.IPlayer;
+
+/**
+ * Receives notifications about turn changes and eliminations in a {@link Game}.
+ * <p>
+ * Events are delivered synchronously on the thread that advanced the game.
+ * Listeners that update a user interface are responsible for moving the work
+ * to the UI thread (for example with {@code Platform.runLater}). All methods
+ * have empty default implementations so listeners only override what they need.
+ * </p>
+ */
+public interface GameListener {
+
+    /**
+     * Called when the turn passes to a player.
+     *
+     * @param player the player whose turn starts
+     */
+    default void onTurnStarted(IPlayer player) {
+    }
+
+    /**
+     * Called when a player is eliminated because they have no playable cards.
+     *
+     * @param player the eliminated player
+     */
+    default void onPlayerEliminated(IPlayer player) {
+    }
+
+    /**
+     * Called once when the game ends.
+     *
+     * @param winner the last active player, or {@code null} if nobody is left
+     */
+    default void onGameOver(IPlayer winner) {
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.mini.model.game;
+
+import org.example.mini.model.ListenerList;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Single-threaded owner of a {@link Game}.
+ * <p>
+ * Every change to the game, its table and the players' hands is submitted
+ * as a command and runs on the loop's own thread, one command at a time.
+ * The model itself therefore needs no locks: it is only ever touched by a
+ * single writer. After each command the loop takes an immutable
+ * {@link GameSnapshot}, publishes it through {@link #getSnapshot()} and
+ * passes it to the registered snapshot listeners, so views read a
+ * consistent copy instead of the live model.
+ * </p>
+ * <p>
+ * Table and game listeners registered on the model are notified on the loop
+ * thread as well. Commands can also be scheduled to run after a delay
+ * without blocking any thread, and cancelled before they start. The loop
+ * thread is a daemon thread and is stopped with {@link #shutdown()}, which
+ * also drops every scheduled command.
+ * </p>
+ */
+public class GameLoop {
+
+    private final Game game;
+    private final ScheduledThreadPoolExecutor executor;
+    private volatile GameSnapshot snapshot;
+    private volatile Thread loopThread;
+    private final ListenerList<Consumer<GameSnapshot>> listeners = new ListenerList<>(GameLoop::newListenerArray);
+
+    /**
+     * Creates a loop that takes ownership of the given game.
+     * <p>
+     * From now on the game must only be accessed through commands submitted
+     * to this loop.
+     * </p>
+     *
+     * @param game the game to own
+     */
+    public GameLoop(Game game) {
+        this.game = game;
+        this.snapshot = GameSnapshot.of(game);
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "game-loop");
+            thread.setDaemon(true);
+            loopThread = thread;
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Registers a listener that receives the snapshot taken after each command.
+     * Listeners are called on the loop thread.
+     *
+     * @param listener the listener to add
+     */
+    public void addSnapshotListener(Consumer<GameSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered snapshot listener.
+     *
+     * @param listener the listener to remove; ignored if it is not registered
+     */
+    public void removeSnapshotListener(Consumer<GameSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Submits a command that reads or changes the game and produces a result.
+     *
+     * @param command the command, run on the loop thread
+     * @param <T>     the result type
+     * @return a future completed with the command's result, or exceptionally
+     *         if the command fails or the loop has been shut down
+     */
+    public <T> CompletableFuture<T> submit(Function<Game, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> runCommand(command, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Submits a command that changes the game.
+     *
+     * @param command the command, run on the loop thread
+     * @return a future completed once the command has run
+     */
+    public CompletableFuture<Void> execute(Consumer<Game> command) {
+        return submit(g -> {
+            command.accept(g);
+            return null;
+        });
+    }
+
+    /**
+     * Schedules a command that changes the game to run after a delay.
+     * <p>
+     * No thread waits for the delay: the command is queued on the loop and
+     * can be cancelled through the returned future until it starts.
+     * </p>
+     *
+     * @param command the command, run on the loop thread
+     * @param delay   the delay before the command runs
+     * @param unit    the unit of {@code delay}
+     * @return a future that cancels the command, or {@code null} if the loop
+     *         has been shut down
+     */
+    public ScheduledFuture<?> schedule(Consumer<Game> command, long delay, TimeUnit unit) {
+        try {
+            return executor.schedule(() -> runCommand(g -> {
+                command.accept(g);
+                return null;
+            }, new CompletableFuture<>()), delay, unit);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the snapshot taken after the last command.
+     *
+     * @return the latest snapshot
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Checks whether the calling thread is the loop thread.
+     *
+     * @return {@code true} when called from a command
+     */
+    public boolean isLoopThread() {
+        return Thread.currentThread() == loopThread;
+    }
+
+    /**
+     * Stops the loop. Commands not yet started, including scheduled ones, are
+     * discarded and the loop thread ends. May be called from a command.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Waits for the loop thread to end after {@link #shutdown()}.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the loop thread has ended, {@code false} if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Returns whether {@link #shutdown()} has been called.
+     *
+     * @return {@code true} once the loop no longer accepts commands
+     */
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Runs one command, then publishes a fresh snapshot.
+     * <p>
+     * The future is always completed, even if the command throws an
+     * {@link Error} or publishing the snapshot fails, so callers waiting on
+     * it never hang.
+     * </p>
+     *
+     * @param command the command to run
+     * @param result  the future to complete with the command's result
+     * @param <T>     the result type
+     */
+    private <T> void runCommand(Function<Game, T> command, CompletableFuture<T> result) {
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = command.apply(game);
+        } catch (Throwable t) {
+            System.err.println("Game command failed: " + t);
+            failure = t;
+        }
+        try {
+            publish();
+        } catch (Throwable t) {
+            System.err.println("Snapshot failed: " + t);
+            if (failure == null) {
+                failure = t;
+            }
+        }
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(value);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the game and hands it to the listeners.
+     * A listener that throws is reported and does not stop the others.
+     */
+    private void publish() {
+        GameSnapshot current = GameSnapshot.of(game);
+        snapshot = current;
+        for (Consumer<GameSnapshot> listener : listeners.get()) {
+            try {
+                listener.accept(current);
+            } catch (RuntimeException e) {
+                System.err.println("Snapshot listener failed: " + e);
+            }
+        }
+    }
+
+    /**
+     * Creates an array of snapshot listeners.
+     *
+     * @param length the array length
+     * @return a new, empty array
+     */
+    @SuppressWarnings("unchecked")
+    private static Consumer<GameSnapshot>[] newListenerArray(int length) {
+        return (Consumer<GameSnapshot>[]) new Consumer<?>[length];
+    }
+}
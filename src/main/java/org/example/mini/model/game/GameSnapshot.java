@@ -0,0 +1,182 @@
+package org.example.mini.model.game;
+
+import org.example.mini.model.Table;
+import org.example.mini.model.card.Card;
+import org.example.mini.model.player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of the visible state of a {@link Game} at one point in time.
+ * <p>
+ * Snapshots are taken by the {@link GameLoop} on its own thread after every
+ * command, so they are always consistent, and can then be read from any
+ * thread (typically the JavaFX Application Thread) without locking. Cards
+ * are immutable, so the hands share the card instances of the game.
+ * </p>
+ */
+public final class GameSnapshot {
+
+    /**
+     * Immutable copy of the visible state of one seat.
+     */
+    public static final class Seat {
+        private final String name;
+        private final boolean human;
+        private final boolean active;
+        private final List<Card> hand;
+
+        private Seat(IPlayer player) {
+            this.name = player.getName();
+            this.human = player.isHuman();
+            this.active = player.isActive();
+            this.hand = List.copyOf(player.getHand());
+        }
+
+        /**
+         * Returns the name of the player in this seat.
+         *
+         * @return the player name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns whether the seat is played by a human.
+         *
+         * @return {@code true} for a human player
+         */
+        public boolean isHuman() {
+            return human;
+        }
+
+        /**
+         * Returns whether the player in this seat is still in the game.
+         *
+         * @return {@code true} if the player has not been eliminated
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Returns the cards held in this seat.
+         *
+         * @return an unmodifiable list of the cards
+         */
+        public List<Card> getHand() {
+            return hand;
+        }
+    }
+
+    private final int tableSum;
+    private final Card lastCard;
+    private final int tableCardCount;
+    private final List<Seat> seats;
+    private final int currentSeat;
+    private final boolean gameOver;
+    private final int winnerSeat;
+
+    private GameSnapshot(Game game) {
+        Table table = game.getTable();
+        this.tableSum = table.getTableSum();
+        this.lastCard = table.getLastCard();
+        this.tableCardCount = table.getCardCount();
+
+        List<IPlayer> players = game.getPlayers();
+        List<Seat> copies = new ArrayList<>(players.size());
+        for (IPlayer player : players) {
+            copies.add(new Seat(player));
+        }
+        this.seats = Collections.unmodifiableList(copies);
+        this.currentSeat = game.getCurrentPlayerIndex();
+        this.gameOver = game.isGameOver();
+        IPlayer winner = gameOver ? game.getWinner() : null;
+        this.winnerSeat = winner != null ? players.indexOf(winner) : -1;
+    }
+
+    /**
+     * Copies the visible state of a game. Must be called by the thread that owns the game.
+     *
+     * @param game the game to copy
+     * @return a new snapshot
+     */
+    static GameSnapshot of(Game game) {
+        return new GameSnapshot(game);
+    }
+
+    /**
+     * Returns the table sum.
+     *
+     * @return the current sum of the table
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Returns the last card placed on the table.
+     *
+     * @return the last card, or {@code null} if the table is empty
+     */
+    public Card getLastCard() {
+        return lastCard;
+    }
+
+    /**
+     * Returns the number of cards on the table.
+     *
+     * @return the table card count
+     */
+    public int getTableCardCount() {
+        return tableCardCount;
+    }
+
+    /**
+     * Returns every seat, in turn order.
+     *
+     * @return an unmodifiable list of seats
+     */
+    public List<Seat> getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the index of the seat that has the turn.
+     *
+     * @return the current seat index
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Returns the seat that has the turn.
+     *
+     * @return the current seat
+     */
+    public Seat getCurrentPlayer() {
+        return seats.get(currentSeat);
+    }
+
+    /**
+     * Returns whether the game has ended.
+     *
+     * @return {@code true} if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the seat of the winner.
+     *
+     * @return the winner's seat index, or {@code -1} if the game is not over or has no winner
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.mini.model.game;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+/**
+ * {@link TurnClock} driven by hand, for deterministic tests.
+ * <p>
+ * Scheduled steps wait in a queue ordered by their due time on a virtual
+ * clock that starts at {@code 0} and only moves when {@link #advance(long)}
+ * is called. Advancing runs every step that falls due, in due-time order
+ * (ties in scheduling order), each on its game loop and to completion
+ * before the next one; steps scheduled meanwhile run too if they fall due
+ * within the advanced time.
+ * </p>
+ */
+public class ManualTurnClock implements TurnClock {
+
+    /**
+     * A step waiting for its due time.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        final long due;
+        final long sequence;
+        final FutureTask<Void> task;
+
+        Entry(long due, long sequence, FutureTask<Void> task) {
+            this.due = due;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byDue = Long.compare(due, other.due);
+            return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private long now;
+    private long sequence;
+
+    @Override
+    public synchronized Future<?> schedule(GameLoop loop, Consumer<Game> step, long delayMillis) {
+        FutureTask<Void> task = new FutureTask<>(() -> loop.execute(step).join(), null);
+        queue.add(new Entry(now + Math.max(0, delayMillis), sequence++, task));
+        return task;
+    }
+
+    /**
+     * Moves the virtual time forward, running every step that falls due.
+     * Must not be called from a game loop thread.
+     *
+     * @param millis how far to move, in milliseconds
+     * @return the number of steps run
+     */
+    public int advance(long millis) {
+        long target;
+        synchronized (this) {
+            target = now + millis;
+        }
+        int ran = 0;
+        while (true) {
+            Entry next;
+            synchronized (this) {
+                next = queue.peek();
+                if (next == null || next.due > target) {
+                    now = target;
+                    return ran;
+                }
+                queue.poll();
+                now = next.due;
+            }
+            if (!next.task.isCancelled()) {
+                next.task.run();
+                ran++;
+            }
+        }
+    }
+
+    /**
+     * Returns the current virtual time.
+     *
+     * @return milliseconds since the clock was created
+     */
+    public synchronized long now() {
+        return now;
+    }
+
+    /**
+     * Returns the number of steps waiting, including cancelled ones not yet discarded.
+     *
+     * @return the queue size
+     */
+    public synchronized int pending() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.mini.model.game;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Source of the waits used to pace turns.
+ * <p>
+ * Whoever paces a game (the CPU turn scheduler, the views) never sleeps:
+ * it asks the clock to run the next step on the {@link GameLoop} after a
+ * delay. The clock decides what that delay means:
+ * </p>
+ * <ul>
+ *     <li>{@link #realTime()} waits the real delay, for people playing;</li>
+ *     <li>{@link #instant()} ignores the delay, for simulations and CI;</li>
+ *     <li>{@link ManualTurnClock} runs steps only when a test advances its virtual time.</li>
+ * </ul>
+ */
+public interface TurnClock {
+
+    /**
+     * Runs a step on the game loop once the given delay has elapsed on this clock.
+     *
+     * @param loop        the loop that owns the game
+     * @param step        the step to run on the loop thread
+     * @param delayMillis the delay, in milliseconds
+     * @return a future that cancels the step until it starts, or {@code null}
+     *         if the loop has been shut down
+     */
+    Future<?> schedule(GameLoop loop, Consumer<Game> step, long delayMillis);
+
+    /**
+     * Returns a clock that waits the real delays.
+     *
+     * @return the wall-clock pacer
+     */
+    static TurnClock realTime() {
+        return (loop, step, delayMillis) -> loop.schedule(step, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns a clock that runs every step as soon as the loop is free.
+     *
+     * @return the zero-delay pacer
+     */
+    static TurnClock instant() {
+        return (loop, step, delayMillis) -> loop.schedule(step, 0, TimeUnit.MILLISECONDS);
+    }
+}
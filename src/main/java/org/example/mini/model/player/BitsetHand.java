@@ -0,0 +1,400 @@
+package org.example.mini.model.player;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.card.CardValues;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Hand of cards stored as a bit mask of card ordinals.
+ * <p>
+ * Bit {@code i} of the mask is set while the hand holds the catalogue card
+ * with ordinal {@code i}; a per-ordinal copy count covers games played with
+ * several decks, and a per-rank histogram counts the cards of each value.
+ * Adding a card and checking whether the hand holds one are O(1), and
+ * asking whether any card is playable at a given sum is a single AND with
+ * {@link CardValues#playableCards(int, boolean)}.
+ * </p>
+ * <p>
+ * The hand is also a {@link List} for existing callers. The list keeps the
+ * cards in the order they were added and returns the same {@link Card}
+ * instances. Membership follows the mask: a catalogue card matches any held
+ * card with the same ordinal, so {@link #contains(Object)},
+ * {@link #indexOf(Object)}, {@link #lastIndexOf(Object)} and
+ * {@link #remove(Object)} always agree. Cards outside the catalogue match by
+ * {@link Object#equals(Object)}. {@code null} cards are rejected.
+ * </p>
+ */
+public final class BitsetHand extends AbstractList<Card> implements RandomAccess {
+
+    /**
+     * Catalogue cards held, one bit per ordinal.
+     */
+    private long mask;
+
+    /**
+     * Number of copies held of each catalogue card.
+     */
+    private final byte[] copies = new byte[CardCatalogue.SIZE];
+
+    /**
+     * Number of cards held of each rank, indexed by rank code.
+     */
+    private final int[] rankCounts = new int[CardCatalogue.RANKS.size()];
+
+    /**
+     * Cards outside the catalogue, or {@code null} if there are none.
+     */
+    private List<Card> others;
+
+    /**
+     * Total number of cards held.
+     */
+    private int size;
+
+    /**
+     * Cards held, in the order they were added, in {@code cards[0..size)}.
+     */
+    private Card[] cards = new Card[8];
+
+    /**
+     * Returns the mask of the catalogue cards in this hand.
+     *
+     * @return a mask with bit {@code i} set for each held card ordinal {@code i}
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Returns how many cards of a rank this hand holds.
+     *
+     * @param rankIndex the rank code
+     * @return the number of cards of that rank
+     */
+    public int rankCount(int rankIndex) {
+        return rankCounts[rankIndex];
+    }
+
+    /**
+     * Returns the cards of this hand that are not part of the catalogue.
+     *
+     * @return a read-only list of those cards, usually empty
+     */
+    public List<Card> nonCatalogueCards() {
+        return others == null ? List.of() : Collections.unmodifiableList(others);
+    }
+
+    /**
+     * Returns how many copies of a catalogue card this hand holds.
+     *
+     * @param card the card to count
+     * @return the number of copies, {@code 0} for cards outside the catalogue
+     */
+    public int count(Card card) {
+        return card.getOrdinal() < 0 ? 0 : copies[card.getOrdinal()];
+    }
+
+    /**
+     * Returns how many cards of this hand are not part of the catalogue.
+     *
+     * @return the number of such cards, usually {@code 0}
+     */
+    public int nonCatalogueCount() {
+        return others == null ? 0 : others.size();
+    }
+
+    /**
+     * Returns the catalogue cards of this hand that can be played at the given sum.
+     *
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return a mask of the playable card ordinals held
+     */
+    public long playableMask(int tableSum, boolean isForHuman) {
+        return mask & CardValues.playableCards(tableSum, isForHuman);
+    }
+
+    /**
+     * Checks whether this hand holds at least one card that can be played.
+     *
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return {@code true} if some card keeps the sum at most 50
+     */
+    public boolean hasPlayable(int tableSum, boolean isForHuman) {
+        if (playableMask(tableSum, isForHuman) != 0) {
+            return true;
+        }
+        if (others != null) {
+            for (Card card : others) {
+                if (card.canBePlayed(tableSum, isForHuman)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the playable card that brings the table sum closest to 50.
+     * <p>
+     * Only the cards in the playable mask are looked at; ties go to the card
+     * with the lowest ordinal.
+     * </p>
+     *
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return the best playable card as held in this hand, or {@code null}
+     *         if none is playable
+     */
+    public Card bestPlayable(int tableSum, boolean isForHuman) {
+        Card best = null;
+        int bestSum = Integer.MIN_VALUE;
+        for (long m = playableMask(tableSum, isForHuman); m != 0; m &= m - 1) {
+            Card card = CardCatalogue.get(Long.numberOfTrailingZeros(m));
+            int newSum = tableSum + CardValues.value(card.getRankIndex(), tableSum, isForHuman);
+            if (newSum > bestSum) {
+                bestSum = newSum;
+                best = card;
+            }
+        }
+        if (best != null) {
+            best = heldCard(best.getOrdinal());
+        }
+        if (others != null) {
+            for (Card card : others) {
+                int newSum = tableSum + card.getGameValue(tableSum, isForHuman);
+                if (newSum <= CardValues.LIMIT && newSum > bestSum) {
+                    bestSum = newSum;
+                    best = card;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks whether this hand holds the given card.
+     *
+     * @param o the card to look for
+     * @return {@code true} if the hand holds it
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Card)) {
+            return false;
+        }
+        int ordinal = ((Card) o).getOrdinal();
+        if (ordinal < 0) {
+            return others != null && others.contains(o);
+        }
+        return (mask & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Returns the position of the first held card matching the given card.
+     *
+     * @param o the card to look for
+     * @return its position, or {@code -1} if the hand does not hold it
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!contains(o)) {
+            return -1;
+        }
+        Card card = (Card) o;
+        for (int i = 0; i < size; i++) {
+            if (matches(cards[i], card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the last held card matching the given card.
+     *
+     * @param o the card to look for
+     * @return its position, or {@code -1} if the hand does not hold it
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!contains(o)) {
+            return -1;
+        }
+        Card card = (Card) o;
+        for (int i = size - 1; i >= 0; i--) {
+            if (matches(cards[i], card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a card at the end of this hand.
+     *
+     * @param card the card to add
+     * @return always {@code true}
+     * @throws NullPointerException if {@code card} is {@code null}
+     */
+    @Override
+    public boolean add(Card card) {
+        Objects.requireNonNull(card, "card");
+        int ordinal = card.getOrdinal();
+        if (ordinal < 0) {
+            if (others == null) {
+                others = new ArrayList<>(2);
+            }
+            others.add(card);
+        } else {
+            copies[ordinal]++;
+            mask |= 1L << ordinal;
+            rankCounts[card.getRankIndex()]++;
+        }
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        cards[size++] = card;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the first held card matching the given card.
+     *
+     * @param o the card to remove
+     * @return {@code true} if the hand held the card
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the first held card with the given catalogue ordinal.
+     * <p>
+     * Mask-based callers use it to get back the instance actually in the
+     * hand, which may differ from the shared {@link CardCatalogue} one; it
+     * allocates nothing.
+     * </p>
+     *
+     * @param ordinal the card ordinal, in {@code [0, 52)}
+     * @return the held card, or {@code null} if the hand does not hold it
+     */
+    public Card heldCard(int ordinal) {
+        if ((mask & (1L << ordinal)) != 0) {
+            for (int i = 0; i < size; i++) {
+                if (cards[i].getOrdinal() == ordinal) {
+                    return cards[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes one copy of the catalogue card with the given ordinal.
+     * <p>
+     * This is the mask-side counterpart of {@link #remove(Object)}, for
+     * callers that select a card as a bit of {@link #playableMask(int, boolean)};
+     * it allocates nothing.
+     * </p>
+     *
+     * @param ordinal the card ordinal, in {@code [0, 52)}
+     * @return the removed card, or {@code null} if the hand does not hold it
+     */
+    public Card removeOrdinal(int ordinal) {
+        if ((mask & (1L << ordinal)) == 0) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            if (cards[i].getOrdinal() == ordinal) {
+                return remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the card at the given position.
+     *
+     * @param index the position of the card
+     * @return the removed card
+     */
+    @Override
+    public Card remove(int index) {
+        Card card = get(index);
+        System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+        cards[--size] = null;
+        int ordinal = card.getOrdinal();
+        if (ordinal < 0) {
+            others.remove(card);
+        } else {
+            if (--copies[ordinal] == 0) {
+                mask &= ~(1L << ordinal);
+            }
+            rankCounts[card.getRankIndex()]--;
+        }
+        modCount++;
+        return card;
+    }
+
+    /**
+     * Removes every card from this hand.
+     */
+    @Override
+    public void clear() {
+        for (long m = mask; m != 0; m &= m - 1) {
+            copies[Long.numberOfTrailingZeros(m)] = 0;
+        }
+        mask = 0L;
+        Arrays.fill(rankCounts, 0);
+        others = null;
+        Arrays.fill(cards, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return cards[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a held card matches a card looked for.
+     *
+     * @param held   a card of this hand
+     * @param target the card looked for
+     * @return {@code true} if both have the same catalogue ordinal, or if
+     *         {@code target} is outside the catalogue and equal to {@code held}
+     */
+    private static boolean matches(Card held, Card target) {
+        int ordinal = target.getOrdinal();
+        return ordinal >= 0 ? held.getOrdinal() == ordinal : held.equals(target);
+    }
+}
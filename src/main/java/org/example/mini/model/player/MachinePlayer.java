@@ -1,34 +1,69 @@
 package org.example.mini.model.player;
 
 import org.example.mini.model.card.Card;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.strategy.CpuStrategies;
+import org.example.mini.model.player.strategy.CpuStrategy;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a non-human (CPU-controlled) player that plays automatically.
  * <p>
- * The {@code MachinePlayer} selects one of its playable cards at random
- * when it is its turn to play. A card is considered playable if it satisfies
- * the rules defined in {@link Card#canBePlayed(int, boolean)} for a
- * non-human player.
+ * The {@code MachinePlayer} delegates the choice of card to a
+ * {@link CpuStrategy}. By default it uses
+ * {@link CpuStrategies#defaultStrategy()}, which selects one of its playable
+ * cards at random.
  * </p>
  */
 public class MachinePlayer extends Player {
 
     /**
      * Source of randomness used to choose a card from the list
-     * of currently playable cards.
+     * of currently playable cards. Owned by this player only.
      */
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     /**
-     * Creates a new machine player with the given name.
+     * Strategy that chooses the card to play.
+     */
+    private final CpuStrategy strategy;
+
+    /**
+     * Creates a new machine player with the given name and an unseeded
+     * random source.
      *
      * @param name the name of the machine player
      */
     public MachinePlayer(String name) {
+        this(name, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new machine player that draws its decisions from the given
+     * random source.
+     *
+     * @param name   the name of the machine player
+     * @param random random source owned by this player (e.g. a split of the
+     *               game's master generator)
+     */
+    public MachinePlayer(String name, RandomGenerator random) {
+        this(name, random, CpuStrategies.defaultStrategy());
+    }
+
+    /**
+     * Creates a new machine player that plays with the given strategy.
+     *
+     * @param name     the name of the machine player
+     * @param random   random source owned by this player (e.g. a split of the
+     *                 game's master generator)
+     * @param strategy the strategy that chooses its cards; the player uses
+     *                 {@link CpuStrategy#forNewPlayer()} of it
+     */
+    public MachinePlayer(String name, RandomGenerator random, CpuStrategy strategy) {
         super(name);
+        this.random = random;
+        this.strategy = strategy.forNewPlayer();
     }
 
     /**
@@ -44,10 +79,11 @@ public class MachinePlayer extends Player {
     /**
      * Selects and plays a card based on the current table sum.
      * <p>
-     * This implementation collects all cards in the hand that can be legally
-     * played (according to {@link Card#canBePlayed(int, boolean)} with
-     * {@code isHuman} set to {@code false}) and randomly chooses one of them.
-     * The chosen card is removed from the hand and returned.
+     * The choice is made by this player's {@link CpuStrategy} with the
+     * player's own random source. A catalogue card is removed by its ordinal
+     * with {@link BitsetHand#removeOrdinal(int)}, which allocates nothing;
+     * only cards outside the catalogue go through {@link BitsetHand#remove(Object)}.
+     * Either way the card returned is the instance the hand held.
      * </p>
      *
      * @param tableSum the current sum of card values on the table
@@ -55,22 +91,33 @@ public class MachinePlayer extends Player {
      */
     @Override
     public Card playCard(int tableSum) {
-        // Get playable cards
-        List<Card> playableCards = new ArrayList<>();
-        for (Card card : hand) {
-            if (card.canBePlayed(tableSum, false)) {
-                playableCards.add(card);
-            }
+        Card chosenCard = strategy.choose(hand, tableSum, random);
+        if (chosenCard == null) {
+            return null;
         }
-
-        if (playableCards.isEmpty()) {
-            return null; // No playable cards
+        if (chosenCard.getOrdinal() >= 0) {
+            return hand.removeOrdinal(chosenCard.getOrdinal());
         }
+        return hand.remove(chosenCard) ? chosenCard : null;
+    }
 
-        // Choose a random card from the playable ones
-        Card chosenCard = playableCards.get(random.nextInt(playableCards.size()));
-        hand.remove(chosenCard);
-        return chosenCard;
+    /**
+     * Tells this player's strategy which game the player has joined.
+     * Called by {@link Game#start()}.
+     *
+     * @param game the game that has just started
+     */
+    public void joinGame(Game game) {
+        strategy.onGameStart(game, this);
+    }
+
+    /**
+     * Returns the strategy that chooses this player's cards.
+     *
+     * @return the strategy
+     */
+    public CpuStrategy getStrategy() {
+        return strategy;
     }
 
     /**
@@ -1,7 +1,7 @@
 package org.example.mini.model.player;
 
 import org.example.mini.model.card.Card;
-import java.util.ArrayList;
+import org.example.mini.model.rules.LegalMoves;
 import java.util.List;
 
 /**
@@ -25,9 +25,13 @@ public abstract class Player implements IPlayer {
     protected String name;
 
     /**
-     * List of cards currently held in the player's hand.
+     * Cards currently held in the player's hand.
+     * <p>
+     * Stored as a {@link BitsetHand}, so playability checks are mask
+     * operations; it is still a {@link List} for callers of {@link #getHand()}.
+     * </p>
      */
-    protected List<Card> hand;
+    protected final BitsetHand hand;
 
     /**
      * Flag indicating whether the player is still active in the game.
@@ -48,7 +52,7 @@ public abstract class Player implements IPlayer {
      */
     public Player(String name) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.hand = new BitsetHand();
         this.active = true;
     }
 
@@ -112,9 +116,9 @@ public abstract class Player implements IPlayer {
     /**
      * Checks whether the player has at least one card that can be legally played.
      * <p>
-     * This method iterates over the player's hand and uses
-     * {@link Card#canBePlayed(int, boolean)} with {@link #isHuman()} to
-     * determine if any card is playable under the current table sum.
+     * Delegates to {@link LegalMoves#any(List, int, boolean)} with the Ace
+     * rule of {@link #isHuman()}; for the bitset hand this is a single mask
+     * intersection.
      * </p>
      *
      * @param tableSum the current sum of the card values on the table
@@ -122,11 +126,6 @@ public abstract class Player implements IPlayer {
      *         {@code false} otherwise
      */
     public boolean hasPlayableCards(int tableSum) {
-        for (Card card : hand) {
-            if (card.canBePlayed(tableSum, isHuman())) {
-                return true;
-            }
-        }
-        return false;
+        return LegalMoves.any(hand, tableSum, isHuman());
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.example.mini.model.player.strategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link CpuStrategy} implementations on the class path.
+ * <p>
+ * Strategies are loaded once with {@link ServiceLoader} and kept in
+ * discovery order, with {@link RandomStrategy} (the classic opponent) always
+ * first, so it is the default everywhere.
+ * </p>
+ */
+public final class CpuStrategies {
+
+    /**
+     * Strategies found on the class path, loaded on first use.
+     */
+    private static volatile List<CpuStrategy> available;
+
+    private CpuStrategies() {
+    }
+
+    /**
+     * Returns every available strategy, default first.
+     *
+     * @return an unmodifiable list of strategies
+     */
+    public static List<CpuStrategy> available() {
+        List<CpuStrategy> strategies = available;
+        if (strategies == null) {
+            strategies = load();
+            available = strategies;
+        }
+        return strategies;
+    }
+
+    /**
+     * Returns the strategy used when none is chosen.
+     *
+     * @return the default strategy
+     */
+    public static CpuStrategy defaultStrategy() {
+        return available().get(0);
+    }
+
+    /**
+     * Returns the strategy with the given identifier.
+     *
+     * @param id the identifier, see {@link CpuStrategy#id()}
+     * @return the matching strategy
+     * @throws IllegalArgumentException if no strategy has that identifier
+     */
+    public static CpuStrategy byId(String id) {
+        List<String> ids = new ArrayList<>();
+        for (CpuStrategy strategy : available()) {
+            if (strategy.id().equalsIgnoreCase(id.trim())) {
+                return strategy;
+            }
+            ids.add(strategy.id());
+        }
+        throw new IllegalArgumentException("Unknown CPU strategy '" + id + "', expected one of " + ids);
+    }
+
+    /**
+     * Discovers the strategies with {@link ServiceLoader}.
+     *
+     * @return the strategies, default first
+     */
+    private static List<CpuStrategy> load() {
+        List<CpuStrategy> strategies = new ArrayList<>();
+        strategies.add(new RandomStrategy());
+        for (CpuStrategy strategy : ServiceLoader.load(CpuStrategy.class, CpuStrategy.class.getClassLoader())) {
+            if (!(strategy instanceof RandomStrategy)) {
+                strategies.add(strategy);
+            }
+        }
+        return Collections.unmodifiableList(strategies);
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.mini.model.player.strategy;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.BitsetHand;
+import org.example.mini.model.player.MachinePlayer;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides which card a {@link MachinePlayer} plays.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader} (see
+ * {@link CpuStrategies}) and listed in
+ * {@code META-INF/services/org.example.mini.model.player.strategy.CpuStrategy};
+ * they need a public no-argument constructor. The instance found by the
+ * loader is shared by every seat and every game, including games running in
+ * parallel in a tournament, so it must be stateless. A strategy that keeps
+ * state during a game returns a fresh instance from {@link #forNewPlayer()}.
+ * </p>
+ * <p>
+ * All randomness must come from the generator passed to
+ * {@link #choose(BitsetHand, int, RandomGenerator)}, which belongs to the
+ * player, so seeded games stay reproducible.
+ * </p>
+ */
+public interface CpuStrategy {
+
+    /**
+     * Returns the short identifier used to select this strategy, e.g. on the
+     * command line.
+     *
+     * @return a unique, lower-case identifier
+     */
+    String id();
+
+    /**
+     * Returns the name shown to players when choosing an opponent.
+     *
+     * @return a human-readable name
+     */
+    String displayName();
+
+    /**
+     * Chooses the card to play.
+     * <p>
+     * The card must be held in {@code hand} and legal at {@code tableSum}
+     * under the CPU Ace rule; the caller removes it from the hand. Strategies
+     * that select a bit of the hand's mask return the held instance with
+     * {@link BitsetHand#heldCard(int)}.
+     * </p>
+     *
+     * @param hand     the player's hand; must not be modified
+     * @param tableSum the current table sum
+     * @param random   the player's own random source
+     * @return the card to play, or {@code null} if no card is playable
+     */
+    Card choose(BitsetHand hand, int tableSum, RandomGenerator random);
+
+    /**
+     * Called when the player using this instance starts a game.
+     * <p>
+     * Strategies that look beyond their own hand keep the game here. They may
+     * only read what the player could see: the table, the number of cards in
+     * the deck and in each hand, and which players are still active. Only
+     * instances returned by {@link #forNewPlayer()} as fresh objects may keep
+     * the reference.
+     * </p>
+     *
+     * @param game the game that has just started
+     * @param self the player using this instance
+     */
+    default void onGameStart(Game game, MachinePlayer self) {
+    }
+
+    /**
+     * Returns the instance a new player should use.
+     * <p>
+     * Stateless strategies return themselves; strategies with per-game state
+     * return a new instance, since every game creates its own players.
+     * </p>
+     *
+     * @return the strategy instance for one player
+     */
+    default CpuStrategy forNewPlayer() {
+        return this;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.mini.model.player.strategy;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.player.BitsetHand;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays the legal card that brings the table sum closest to 50.
+ * <p>
+ * This squeezes the next players and gets rid of the high cards first,
+ * keeping the cards that are always playable (9, J, Q, K) for later. The
+ * decision is a scan of the hand's playable mask and uses no randomness.
+ * </p>
+ */
+public class GreedyStrategy implements CpuStrategy {
+
+    @Override
+    public String id() {
+        return "greedy";
+    }
+
+    @Override
+    public String displayName() {
+        return "Greedy";
+    }
+
+    @Override
+    public Card choose(BitsetHand hand, int tableSum, RandomGenerator random) {
+        return hand.bestPlayable(tableSum, false);
+    }
+}
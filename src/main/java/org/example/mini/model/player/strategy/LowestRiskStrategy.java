@@ -0,0 +1,69 @@
+package org.example.mini.model.player.strategy;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.card.CardValues;
+import org.example.mini.model.player.BitsetHand;
+import org.example.mini.model.rules.LegalMoves;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays the legal card that leaves this player safest.
+ * <p>
+ * For each legal card it counts how many of the remaining cards would still
+ * be playable at the sum the card produces, and picks the card that keeps
+ * the most of them; ties go to the lower resulting sum. Both counts are mask
+ * operations on the hand, so the decision allocates nothing for catalogue
+ * cards and uses no randomness.
+ * </p>
+ */
+public class LowestRiskStrategy implements CpuStrategy {
+
+    @Override
+    public String id() {
+        return "lowest-risk";
+    }
+
+    @Override
+    public String displayName() {
+        return "Lowest risk";
+    }
+
+    @Override
+    public Card choose(BitsetHand hand, int tableSum, RandomGenerator random) {
+        if (hand.nonCatalogueCount() > 0) {
+            // Rare: cards outside the catalogue have no mask bit, so play safe with the lowest sum
+            LegalMoves moves = LegalMoves.of(hand, tableSum, false);
+            int best = -1;
+            for (int i = 0; i < moves.size(); i++) {
+                if (best < 0 || moves.resultingSum(i) < moves.resultingSum(best)) {
+                    best = i;
+                }
+            }
+            return best < 0 ? null : moves.card(best);
+        }
+
+        Card best = null;
+        int bestSafe = -1;
+        int bestSum = Integer.MAX_VALUE;
+        for (long m = hand.playableMask(tableSum, false); m != 0; m &= m - 1) {
+            int ordinal = Long.numberOfTrailingZeros(m);
+            Card card = CardCatalogue.get(ordinal);
+            int newSum = tableSum + CardValues.value(card.getRankIndex(), tableSum, false);
+
+            // Cards left after this one (one copy removed) that can follow at the new sum
+            long rest = hand.mask();
+            if (hand.count(card) == 1) {
+                rest &= ~(1L << ordinal);
+            }
+            int safe = Long.bitCount(rest & CardValues.playableCards(newSum, false));
+            if (safe > bestSafe || (safe == bestSafe && newSum < bestSum)) {
+                best = card;
+                bestSafe = safe;
+                bestSum = newSum;
+            }
+        }
+        return best == null ? null : hand.heldCard(best.getOrdinal());
+    }
+}
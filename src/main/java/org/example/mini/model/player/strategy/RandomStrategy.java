@@ -0,0 +1,47 @@
+package org.example.mini.model.player.strategy;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.player.BitsetHand;
+import org.example.mini.model.rules.LegalMoves;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a uniformly random legal card; the classic CPU opponent.
+ * <p>
+ * When the hand holds only catalogue cards (always, in a normal game) the
+ * decision allocates nothing: the legal cards are the bits of the hand's
+ * playable mask and one random draw selects a bit.
+ * </p>
+ */
+public class RandomStrategy implements CpuStrategy {
+
+    @Override
+    public String id() {
+        return "random";
+    }
+
+    @Override
+    public String displayName() {
+        return "Random";
+    }
+
+    @Override
+    public Card choose(BitsetHand hand, int tableSum, RandomGenerator random) {
+        if (hand.nonCatalogueCount() == 0) {
+            long playable = hand.playableMask(tableSum, false);
+            if (playable == 0) {
+                return null; // No playable cards
+            }
+
+            // Choose a random set bit: drop the lowest bits until the chosen one is lowest
+            for (int skip = random.nextInt(Long.bitCount(playable)); skip > 0; skip--) {
+                playable &= playable - 1;
+            }
+            return hand.heldCard(Long.numberOfTrailingZeros(playable));
+        }
+
+        LegalMoves moves = LegalMoves.of(hand, tableSum, false);
+        return moves.isEmpty() ? null : moves.card(random.nextInt(moves.size()));
+    }
+}
@@ -0,0 +1,294 @@
+package org.example.mini.model.rules;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardValues;
+import org.example.mini.model.player.BitsetHand;
+
+import java.util.List;
+
+/**
+ * The legal moves of a hand at a given table sum.
+ * <p>
+ * This is the single place where the game decides which cards may be played:
+ * a card is legal when the sum it leaves on the table is at most
+ * {@link CardValues#LIMIT}. {@link #of(List, int, boolean)} computes, in one
+ * pass over the hand, every legal card together with the table sum it would
+ * produce, so callers never evaluate a card's value twice in the same turn.
+ * For a {@link BitsetHand} the pass only visits the bits of its playable mask.
+ * </p>
+ * <p>
+ * Instances are immutable. Each legal card appears once, even if a
+ * multi-deck hand holds several copies of it.
+ * </p>
+ */
+public final class LegalMoves {
+
+    /**
+     * Shared result for a hand with no legal card.
+     */
+    private static final LegalMoves NONE = new LegalMoves(new Card[0], new int[0], 0, 0L);
+
+    /**
+     * Legal cards, in {@code cards[0..size)}: in hand order for a plain list,
+     * in ordinal order for a {@link BitsetHand} (cards outside the catalogue last).
+     */
+    private final Card[] cards;
+
+    /**
+     * Table sum after playing each card of {@link #cards}.
+     */
+    private final int[] sums;
+
+    /**
+     * Number of legal cards.
+     */
+    private final int size;
+
+    /**
+     * Ordinals of the legal catalogue cards, one bit each.
+     */
+    private final long mask;
+
+    private LegalMoves(Card[] cards, int[] sums, int size, long mask) {
+        this.cards = cards;
+        this.sums = sums;
+        this.size = size;
+        this.mask = mask;
+    }
+
+    /**
+     * Computes the legal moves of a hand.
+     *
+     * @param hand       the cards held
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return the legal cards and the sums they produce
+     */
+    public static LegalMoves of(List<Card> hand, int tableSum, boolean isForHuman) {
+        if (hand instanceof BitsetHand) {
+            return of((BitsetHand) hand, tableSum, isForHuman);
+        }
+        Card[] cards = new Card[hand.size()];
+        int[] sums = new int[hand.size()];
+        int size = 0;
+        long mask = 0L;
+        for (int i = 0, n = hand.size(); i < n; i++) {
+            Card card = hand.get(i);
+            int sum = resultingSum(card, tableSum, isForHuman);
+            if (isLegalSum(sum) && !contains(cards, size, card)) {
+                cards[size] = card;
+                sums[size++] = sum;
+                if (card.getOrdinal() >= 0) {
+                    mask |= 1L << card.getOrdinal();
+                }
+            }
+        }
+        return size == 0 ? NONE : new LegalMoves(cards, sums, size, mask);
+    }
+
+    /**
+     * Computes the legal moves of a bitset hand from its playable mask.
+     *
+     * @param hand       the cards held
+     * @param tableSum   the current table sum
+     * @param isForHuman the Ace rule to apply
+     * @return the legal cards and the sums they produce
+     */
+    private static LegalMoves of(BitsetHand hand, int tableSum, boolean isForHuman) {
+        long mask = hand.playableMask(tableSum, isForHuman);
+        List<Card> others = hand.nonCatalogueCards();
+        int capacity = Long.bitCount(mask) + others.size();
+        if (capacity == 0) {
+            return NONE;
+        }
+        Card[] cards = new Card[capacity];
+        int[] sums = new int[capacity];
+        int size = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            Card card = hand.heldCard(Long.numberOfTrailingZeros(m));
+            cards[size] = card;
+            sums[size++] = tableSum + CardValues.value(card.getRankIndex(), tableSum, isForHuman);
+        }
+        for (int i = 0, n = others.size(); i < n; i++) {
+            Card card = others.get(i);
+            int sum = resultingSum(card, tableSum, isForHuman);
+            if (isLegalSum(sum)) {
+                cards[size] = card;
+                sums[size++] = sum;
+            }
+        }
+        return size == 0 ? NONE : new LegalMoves(cards, sums, size, mask);
+    }
+
+    /**
+     * Checks whether a hand has at least one legal move, without listing them.
+     *
+     * @param hand       the cards held
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return {@code true} if some card can be played
+     */
+    public static boolean any(List<Card> hand, int tableSum, boolean isForHuman) {
+        if (hand instanceof BitsetHand) {
+            return ((BitsetHand) hand).hasPlayable(tableSum, isForHuman);
+        }
+        for (int i = 0, n = hand.size(); i < n; i++) {
+            if (isLegalSum(resultingSum(hand.get(i), tableSum, isForHuman))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the table sum after playing a card.
+     *
+     * @param card       the card to play
+     * @param tableSum   the current table sum
+     * @param isForHuman {@code true} to apply the human Ace rule,
+     *                   {@code false} for the CPU rule
+     * @return the new table sum, legal or not
+     */
+    public static int resultingSum(Card card, int tableSum, boolean isForHuman) {
+        return tableSum + card.getGameValue(tableSum, isForHuman);
+    }
+
+    /**
+     * Checks whether a table sum is allowed by the rules.
+     *
+     * @param sum the table sum after a move
+     * @return {@code true} if the sum is at most {@link CardValues#LIMIT}
+     */
+    public static boolean isLegalSum(int sum) {
+        return sum <= CardValues.LIMIT;
+    }
+
+    /**
+     * Returns the number of legal cards.
+     *
+     * @return the number of legal cards
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether there is no legal card.
+     *
+     * @return {@code true} if the hand cannot play
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a legal card.
+     *
+     * @param index the position of the move, in {@code [0, size())}
+     * @return the card
+     */
+    public Card card(int index) {
+        checkIndex(index);
+        return cards[index];
+    }
+
+    /**
+     * Returns the table sum a legal card produces.
+     *
+     * @param index the position of the move, in {@code [0, size())}
+     * @return the table sum after playing {@link #card(int) card(index)}
+     */
+    public int resultingSum(int index) {
+        checkIndex(index);
+        return sums[index];
+    }
+
+    /**
+     * Returns the legal catalogue cards as a mask of ordinals.
+     *
+     * @return a mask with bit {@code i} set for each legal card ordinal {@code i}
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Returns the position of a card among the legal moves.
+     * <p>
+     * Like {@link BitsetHand}, a catalogue card matches any legal card with
+     * the same ordinal, whichever instance the hand holds; cards outside the
+     * catalogue match by identity.
+     * </p>
+     *
+     * @param card the card to look for
+     * @return its position, or {@code -1} if the card is not a legal move
+     */
+    public int indexOf(Card card) {
+        for (int i = 0; i < size; i++) {
+            if (sameCard(cards[i], card)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a card is a legal move.
+     *
+     * @param card the card to check
+     * @return {@code true} if the card is in the hand and can be played
+     */
+    public boolean contains(Card card) {
+        return indexOf(card) >= 0;
+    }
+
+    /**
+     * Returns the legal card that brings the table sum closest to the limit.
+     * Ties go to the first such card.
+     *
+     * @return the best card, or {@code null} if there is no legal move
+     */
+    public Card best() {
+        int best = -1;
+        for (int i = 0; i < size; i++) {
+            if (best < 0 || sums[i] > sums[best]) {
+                best = i;
+            }
+        }
+        return best < 0 ? null : cards[best];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LegalMoves{");
+        for (int i = 0; i < size; i++) {
+            sb.append(i == 0 ? "" : ", ").append(cards[i]).append(" -> ").append(sums[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static boolean contains(Card[] cards, int size, Card card) {
+        for (int i = 0; i < size; i++) {
+            if (sameCard(cards[i], card)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether two cards are the same card: the same instance, or two
+     * instances of the same catalogue card.
+     */
+    private static boolean sameCard(Card a, Card b) {
+        return a == b || (b.getOrdinal() >= 0 && a.getOrdinal() == b.getOrdinal());
+    }
+}
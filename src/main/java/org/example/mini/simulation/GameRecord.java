@@ -0,0 +1,127 @@
+package org.example.mini.simulation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact, replayable description of a seeded headless game.
+ * <p>
+ * A record holds the master seed, the seat configuration (which seats use
+ * the human Ace rule) and the ordinals of the cards played, in order. Since
+ * the deck order and every reshuffle come from the seed, this is enough for
+ * {@link ReplayEngine} to rebuild the exact state at any turn without
+ * re-running any AI decision.
+ * </p>
+ */
+public final class GameRecord {
+
+    /**
+     * Master seed the game was created from.
+     */
+    private final long seed;
+
+    /**
+     * Human Ace policy per seat.
+     */
+    private final boolean[] humanSeats;
+
+    /**
+     * Catalogue ordinals of the played cards, in play order.
+     */
+    private final byte[] moves;
+
+    /**
+     * Creates a game record.
+     *
+     * @param seed       master seed of the game
+     * @param humanSeats for each seat, whether it plays with the human Ace rule
+     * @param moves      catalogue ordinals of the played cards, in play order
+     */
+    public GameRecord(long seed, boolean[] humanSeats, byte[] moves) {
+        this.seed = seed;
+        this.humanSeats = humanSeats.clone();
+        this.moves = moves.clone();
+    }
+
+    /**
+     * Returns the master seed of the game.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of seats.
+     *
+     * @return the seat count
+     */
+    public int getSeats() {
+        return humanSeats.length;
+    }
+
+    /**
+     * Indicates whether a seat plays with the human Ace rule.
+     *
+     * @param seat zero-based seat index
+     * @return {@code true} for a human seat
+     */
+    public boolean isHumanSeat(int seat) {
+        return humanSeats[seat];
+    }
+
+    /**
+     * Returns the number of cards played in the game.
+     *
+     * @return the number of recorded moves
+     */
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    /**
+     * Returns the ordinal of the card played at the given turn.
+     *
+     * @param turn zero-based turn index
+     * @return the catalogue ordinal of the played card
+     */
+    public int getMove(int turn) {
+        return moves[turn];
+    }
+
+    /**
+     * Writes this record in a compact binary form.
+     *
+     * @param out destination stream
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeByte(humanSeats.length);
+        for (boolean human : humanSeats) {
+            out.writeBoolean(human);
+        }
+        out.writeInt(moves.length);
+        out.write(moves);
+    }
+
+    /**
+     * Reads a record written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in source stream
+     * @return the decoded record
+     * @throws IOException if the stream cannot be read
+     */
+    public static GameRecord readFrom(DataInput in) throws IOException {
+        long seed = in.readLong();
+        boolean[] humanSeats = new boolean[in.readUnsignedByte()];
+        for (int seat = 0; seat < humanSeats.length; seat++) {
+            humanSeats[seat] = in.readBoolean();
+        }
+        byte[] moves = new byte[in.readInt()];
+        in.readFully(moves);
+        return new GameRecord(seed, humanSeats, moves);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.mini.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Outcome of a single headless game.
+ * <p>
+ * Seats are identified by their position in the player list that was
+ * given to the {@link HeadlessGame}, so results from many games can be
+ * aggregated per seat.
+ * </p>
+ */
+public final class GameResult {
+
+    /**
+     * Seat index of the winner, or {@code -1} when nobody won.
+     */
+    private final int winnerSeat;
+
+    /**
+     * Number of cards played during the game.
+     */
+    private final int turns;
+
+    /**
+     * Seats in the order they were eliminated.
+     */
+    private final int[] eliminationOrder;
+
+    /**
+     * Whether the game stopped because it reached the turn limit.
+     */
+    private final boolean truncated;
+
+    /**
+     * Creates a new game result.
+     *
+     * @param winnerSeat       seat index of the winner, or {@code -1} if there is none
+     * @param turns            number of cards played during the game
+     * @param eliminationOrder seats in the order they were eliminated
+     * @param truncated        {@code true} if the game hit the turn limit
+     */
+    public GameResult(int winnerSeat, int turns, int[] eliminationOrder, boolean truncated) {
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+        this.eliminationOrder = eliminationOrder;
+        this.truncated = truncated;
+    }
+
+    /**
+     * Returns the seat index of the winner.
+     *
+     * @return the winning seat, or {@code -1} if every player was eliminated
+     *         or the game was truncated
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * Returns the number of cards played during the game.
+     *
+     * @return the game length in turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the seats in the order they were eliminated.
+     *
+     * @return a copy of the elimination order
+     */
+    public int[] getEliminationOrder() {
+        return eliminationOrder.clone();
+    }
+
+    /**
+     * Returns the number of eliminated seats.
+     *
+     * @return the length of the elimination order
+     */
+    public int getEliminationCount() {
+        return eliminationOrder.length;
+    }
+
+    /**
+     * Returns the seat eliminated at the given position.
+     *
+     * @param position zero-based elimination position
+     * @return the seat eliminated in that position
+     */
+    public int getEliminatedSeat(int position) {
+        return eliminationOrder[position];
+    }
+
+    /**
+     * Indicates whether the game was stopped by the turn limit.
+     *
+     * @return {@code true} if the game did not finish on its own
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns a short textual representation of the result.
+     *
+     * @return a string describing the result
+     */
+    @Override
+    public String toString() {
+        return "GameResult{winner=" + winnerSeat + ", turns=" + turns
+                + ", eliminated=" + Arrays.toString(eliminationOrder)
+                + (truncated ? ", truncated" : "") + "}";
+    }
+}
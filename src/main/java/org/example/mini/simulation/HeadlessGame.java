@@ -0,0 +1,379 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Runs a complete Cincuentazo game without any user interface.
+ * <p>
+ * The engine drives a {@link Game} from the deal to the last elimination:
+ * each active seat chooses a card through {@link IPlayer#playCard(int)},
+ * the card is placed on the {@link org.example.mini.model.Table}, a
+ * replacement is drawn with {@link Game#drawCardWithRecycle()} and players
+ * without playable cards are eliminated. There is no pacing, no JavaFX
+ * dependency and no console output, so it can be used for bulk simulation.
+ * </p>
+ * <p>
+ * Every seat must choose its own cards (for example a
+ * {@link org.example.mini.model.player.MachinePlayer}); a seat that returns
+ * {@code null} while it still has playable cards is reported as an error.
+ * </p>
+ */
+public class HeadlessGame {
+
+    /**
+     * Default safety limit on the number of cards played in one game.
+     */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    /**
+     * Game being driven by this engine.
+     */
+    private final Game game;
+
+    /**
+     * Maximum number of cards that may be played before the game is truncated.
+     */
+    private final int maxTurns;
+
+    /**
+     * Master seed of the game, meaningful only when {@link #seeded} is {@code true}.
+     */
+    private final long seed;
+
+    /**
+     * Whether the game was created from a seed and can therefore be recorded.
+     */
+    private final boolean seeded;
+
+    /**
+     * Active flags of every seat right before the last elimination check.
+     */
+    private final boolean[] wasActive;
+
+    /**
+     * Seats in the order they were eliminated; the first {@link #eliminated} entries are valid.
+     */
+    private final int[] eliminationOrder;
+
+    /**
+     * Number of eliminated seats.
+     */
+    private int eliminated;
+
+    /**
+     * Number of cards played so far.
+     */
+    private int turns;
+
+    /**
+     * Whether {@link #start()} has been called.
+     */
+    private boolean started;
+
+    /**
+     * Number of seats removed by the last elimination check.
+     */
+    private int lastEliminations;
+
+    /**
+     * Number of active seats right before the last elimination check.
+     */
+    private int activeBeforeLastCheck;
+
+    /**
+     * Ordinals of the played cards, or {@code null} when recording is disabled.
+     */
+    private byte[] moves;
+
+    /**
+     * Creates a headless game for the given players using the default turn limit.
+     *
+     * @param players the seats in turn order
+     */
+    public HeadlessGame(List<IPlayer> players) {
+        this(new Game(players), DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a reproducible headless game from a seed.
+     * <p>
+     * A master {@link SplittableRandom} is created from {@code seed}; each
+     * seat receives its own split (in seat order) and the deck receives the
+     * next one. The same seed and seat factory always produce the same game.
+     * </p>
+     *
+     * @param seats       number of seats
+     * @param seatFactory factory creating the player of each seat
+     * @param seed        master seed of the game
+     * @param maxTurns    maximum number of cards played before the game is truncated
+     */
+    public HeadlessGame(int seats, SeatFactory seatFactory, long seed, int maxTurns) {
+        this(createGame(seats, seatFactory, new SplittableRandom(seed)), maxTurns, seed, true);
+    }
+
+    /**
+     * Creates a headless engine around an existing, not yet started game.
+     *
+     * @param game     the game to drive
+     * @param maxTurns maximum number of cards played before the game is truncated
+     */
+    public HeadlessGame(Game game, int maxTurns) {
+        this(game, maxTurns, 0L, false);
+    }
+
+    /**
+     * Shared constructor.
+     *
+     * @param game     the game to drive
+     * @param maxTurns maximum number of cards played before the game is truncated
+     * @param seed     master seed of the game, if any
+     * @param seeded   whether {@code seed} is the seed the game was built from
+     */
+    private HeadlessGame(Game game, int maxTurns, long seed, boolean seeded) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("maxTurns must be positive: " + maxTurns);
+        }
+        this.game = game;
+        this.maxTurns = maxTurns;
+        this.seed = seed;
+        this.seeded = seeded;
+        int seats = game.getPlayers().size();
+        this.wasActive = new boolean[seats];
+        this.eliminationOrder = new int[seats];
+        game.setVerbose(false);
+    }
+
+    /**
+     * Builds a game whose players and deck all draw from splits of one master generator.
+     *
+     * @param seats       number of seats
+     * @param seatFactory factory creating the player of each seat
+     * @param random      master generator of the game
+     * @return a new, not yet started game
+     */
+    private static Game createGame(int seats, SeatFactory seatFactory, SplittableRandom random) {
+        List<IPlayer> players = new ArrayList<>(seats);
+        for (int seat = 0; seat < seats; seat++) {
+            players.add(seatFactory.createSeat(seat, random.split()));
+        }
+        return new Game(players, random);
+    }
+
+    /**
+     * Returns the game driven by this engine.
+     *
+     * @return the underlying game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Enables recording of the played cards so that the game can later be
+     * rebuilt with {@link ReplayEngine}. Must be called before {@link #start()}.
+     * <p>
+     * Recording is only meaningful for games created from a seed.
+     * </p>
+     *
+     * @return this engine, for chaining
+     */
+    public HeadlessGame enableRecording() {
+        if (started) {
+            throw new IllegalStateException("Recording must be enabled before the game starts");
+        }
+        moves = new byte[64];
+        return this;
+    }
+
+    /**
+     * Plays the game until it is over or the turn limit is reached.
+     *
+     * @return the outcome of the game
+     * @throws IllegalStateException if a seat does not choose a playable card
+     */
+    public GameResult play() {
+        start();
+        while (step()) {
+            // Keep playing until the game is over or the turn limit is hit
+        }
+        return getResult();
+    }
+
+    /**
+     * Deals the cards, places the initial card and eliminates players that
+     * cannot play at the initial sum.
+     */
+    public void start() {
+        if (started) {
+            throw new IllegalStateException("The game has already started");
+        }
+        started = true;
+        game.start();
+        eliminate();
+        if (!game.getCurrentPlayer().isActive()) {
+            game.nextTurn();
+        }
+    }
+
+    /**
+     * Continues a game whose hands, table and deck were set up by the caller
+     * instead of being dealt (see {@link Game#Game(List, org.example.mini.model.deck.Deck,
+     * java.util.random.RandomGenerator.SplittableGenerator)}). After this,
+     * {@link #step()} plays on from the current position.
+     */
+    public void resume() {
+        if (started) {
+            throw new IllegalStateException("The game has already started");
+        }
+        started = true;
+        if (!game.getCurrentPlayer().isActive()) {
+            game.nextTurn();
+        }
+    }
+
+    /**
+     * Plays a single turn: the current seat plays a card, draws a replacement,
+     * players without playable cards are eliminated and the turn advances.
+     *
+     * @return {@code true} if a card was played, {@code false} if the game is
+     *         over or the turn limit has been reached
+     * @throws IllegalStateException if a seat does not choose a playable card
+     */
+    public boolean step() {
+        if (!started) {
+            throw new IllegalStateException("The game has not started");
+        }
+        if (game.isGameOver() || turns >= maxTurns) {
+            return false;
+        }
+
+        IPlayer current = game.getCurrentPlayer();
+        int tableSum = game.getTable().getTableSum();
+
+        Card card = current.playCard(tableSum);
+        if (card == null) {
+            throw new IllegalStateException(current.getName() + " did not choose a card at sum " + tableSum);
+        }
+        if (!game.getTable().placeCard(card, current.isHuman())) {
+            current.addCard(card);
+            throw new IllegalStateException(current.getName() + " chose an illegal card: " + card);
+        }
+        record(card);
+        turns++;
+
+        current.addCard(game.drawCardWithRecycle());
+
+        eliminate();
+        game.nextTurn();
+        return true;
+    }
+
+    /**
+     * Returns the number of cards played so far.
+     *
+     * @return the number of completed turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns how many players the most recent elimination check removed.
+     *
+     * @return the number of seats eliminated in the last check
+     */
+    public int getLastEliminationCount() {
+        return lastEliminations;
+    }
+
+    /**
+     * Returns how many players were still active right before the most recent
+     * elimination check.
+     *
+     * @return the number of seats active before the last check
+     */
+    public int getActiveBeforeLastCheck() {
+        return activeBeforeLastCheck;
+    }
+
+    /**
+     * Builds the result of the game as played so far.
+     *
+     * @return the outcome of the game
+     */
+    public GameResult getResult() {
+        List<IPlayer> players = game.getPlayers();
+        IPlayer winner = game.isGameOver() ? game.getWinner() : null;
+        int[] order = new int[eliminated];
+        System.arraycopy(eliminationOrder, 0, order, 0, eliminated);
+        return new GameResult(winner != null ? players.indexOf(winner) : -1, turns, order, !game.isGameOver());
+    }
+
+    /**
+     * Returns the record of this game: seed, seat configuration and played cards.
+     *
+     * @return the recorded game
+     * @throws IllegalStateException if the game was not created from a seed or
+     *                               recording was not enabled
+     */
+    public GameRecord getRecord() {
+        if (moves == null || !seeded) {
+            throw new IllegalStateException("Recording requires a seeded game with recording enabled");
+        }
+        List<IPlayer> players = game.getPlayers();
+        boolean[] humanSeats = new boolean[players.size()];
+        for (int seat = 0; seat < humanSeats.length; seat++) {
+            humanSeats[seat] = players.get(seat).isHuman();
+        }
+        return new GameRecord(seed, humanSeats, Arrays.copyOf(moves, turns));
+    }
+
+    /**
+     * Appends a played card to the move log, if recording is enabled.
+     *
+     * @param card the card that was just placed on the table
+     */
+    private void record(Card card) {
+        if (moves == null) {
+            return;
+        }
+        if (card.getOrdinal() < 0) {
+            throw new IllegalStateException("Only catalogue cards can be recorded: " + card);
+        }
+        if (turns == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[turns] = (byte) card.getOrdinal();
+    }
+
+    /**
+     * Runs the elimination check and appends newly eliminated seats, in seat order.
+     */
+    private void eliminate() {
+        List<IPlayer> players = game.getPlayers();
+        int active = 0;
+        for (int seat = 0; seat < wasActive.length; seat++) {
+            wasActive[seat] = players.get(seat).isActive();
+            if (wasActive[seat]) {
+                active++;
+            }
+        }
+        game.checkAndEliminatePlayers();
+
+        int before = eliminated;
+        for (int seat = 0; seat < wasActive.length; seat++) {
+            if (wasActive[seat] && !players.get(seat).isActive()) {
+                eliminationOrder[eliminated++] = seat;
+            }
+        }
+        activeBeforeLastCheck = active;
+        lastEliminations = eliminated - before;
+    }
+}
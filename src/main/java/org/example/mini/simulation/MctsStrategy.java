@@ -0,0 +1,492 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.Table;
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.deck.Deck;
+import org.example.mini.model.exceptions.EmptyDeckException;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.BitsetHand;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.example.mini.model.player.Player;
+import org.example.mini.model.player.strategy.CpuStrategy;
+import org.example.mini.model.rules.LegalMoves;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo Tree Search opponent for hard games.
+ * <p>
+ * For each decision the strategy takes what the CPU can see (its own hand,
+ * the cards on the table, the table sum, the size of the deck and of every
+ * other hand) and repeatedly samples a hidden state consistent with it: the
+ * unseen cards are shuffled and dealt to the opponents, and the rest form
+ * the deck. From each sample a playout is run with the real rules through a
+ * {@link HeadlessGame}, starting with one of the legal moves and continuing
+ * with random legal moves for every seat, and the move scores a win if the
+ * CPU is the last player standing.
+ * </p>
+ * <p>
+ * The search tree is the root and one child per legal move; the move to
+ * try next is chosen with UCB1, so promising moves get more playouts.
+ * Workers on a {@link ForkJoinPool} run playouts in parallel until the
+ * deadline and merge their results into shared atomic counters without
+ * locks; each selection counts a visit before its playout ends, which
+ * spreads concurrent workers over different moves. The move with the most
+ * visits is played.
+ * </p>
+ * <p>
+ * The time budget per decision is between {@link #MIN_BUDGET_MILLIS} and
+ * {@link #MAX_BUDGET_MILLIS}; the instance created by the service loader
+ * reads it from the {@code cincuentazo.mcts.budgetMillis} system property
+ * (default {@value #DEFAULT_BUDGET_MILLIS} ms). Because the number of
+ * playouts depends on timing, games with this strategy are not reproducible
+ * from a seed.
+ * </p>
+ */
+public class MctsStrategy implements CpuStrategy {
+
+    /**
+     * Smallest allowed time budget per decision, in milliseconds.
+     */
+    public static final long MIN_BUDGET_MILLIS = 5;
+
+    /**
+     * Largest allowed time budget per decision, in milliseconds.
+     */
+    public static final long MAX_BUDGET_MILLIS = 200;
+
+    /**
+     * Time budget used when none is configured, in milliseconds.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /**
+     * Cards a playout may play before it is scored as a loss.
+     */
+    private static final int MAX_PLAYOUT_TURNS = 400;
+
+    /**
+     * UCB1 exploration constant.
+     */
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    private final long budgetMillis;
+    private final ForkJoinPool pool;
+
+    /**
+     * Game the player using this instance takes part in, or {@code null}
+     * before {@link #onGameStart(Game, MachinePlayer)}.
+     */
+    private Game game;
+
+    /**
+     * Player using this instance.
+     */
+    private MachinePlayer self;
+
+    /**
+     * Creates the strategy with the configured budget on the common pool.
+     */
+    public MctsStrategy() {
+        this(Long.getLong("cincuentazo.mcts.budgetMillis", DEFAULT_BUDGET_MILLIS), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the strategy.
+     *
+     * @param budgetMillis time budget per decision, clamped to
+     *                     [{@link #MIN_BUDGET_MILLIS}, {@link #MAX_BUDGET_MILLIS}]
+     * @param pool         pool that runs the playouts
+     */
+    public MctsStrategy(long budgetMillis, ForkJoinPool pool) {
+        this.budgetMillis = Math.min(Math.max(budgetMillis, MIN_BUDGET_MILLIS), MAX_BUDGET_MILLIS);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the time budget per decision.
+     *
+     * @return the budget, in milliseconds
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    @Override
+    public String id() {
+        return "mcts";
+    }
+
+    @Override
+    public String displayName() {
+        return "MCTS (hard)";
+    }
+
+    /**
+     * Returns a new instance with the same budget and pool, since each
+     * instance follows the game of one player.
+     *
+     * @return a fresh instance
+     */
+    @Override
+    public CpuStrategy forNewPlayer() {
+        return new MctsStrategy(budgetMillis, pool);
+    }
+
+    @Override
+    public void onGameStart(Game game, MachinePlayer self) {
+        this.game = game;
+        this.self = self;
+    }
+
+    /**
+     * Searches for the best legal card until the time budget is spent.
+     * <p>
+     * With a single legal card there is nothing to search. Without a game
+     * (the player never joined one) the greedy choice is played.
+     * </p>
+     *
+     * @param hand     the player's hand; must not be modified
+     * @param tableSum the current table sum
+     * @param random   the player's own random source; seeds the workers
+     * @return the card to play, or {@code null} if no card is playable
+     */
+    @Override
+    public Card choose(BitsetHand hand, int tableSum, RandomGenerator random) {
+        LegalMoves moves = LegalMoves.of(hand, tableSum, false);
+        if (moves.size() <= 1) {
+            return moves.isEmpty() ? null : moves.card(0);
+        }
+        if (game == null) {
+            return moves.best();
+        }
+
+        Observation observation = new Observation(game, self, hand, tableSum);
+        Statistics statistics = new Statistics(moves.size());
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            workers.add(new Worker(observation, moves, statistics, deadline, new SplittableRandom(random.nextLong())));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(workers);
+            }
+        });
+        return moves.card(statistics.mostVisited());
+    }
+
+    /**
+     * What the CPU can see of the game when it has to move, copied on the
+     * calling thread so that workers never touch the live game.
+     */
+    private static final class Observation {
+
+        /**
+         * Own hand.
+         */
+        final Card[] hand;
+
+        /**
+         * Cards on the table, in the order they were played.
+         */
+        final Card[] pile;
+
+        /**
+         * Current table sum.
+         */
+        final int tableSum;
+
+        /**
+         * Number of cards left in the deck.
+         */
+        final int deckSize;
+
+        /**
+         * Human Ace rule of each active seat, in turn order starting with the CPU.
+         */
+        final boolean[] human;
+
+        /**
+         * Hand size of each active seat, in turn order starting with the CPU.
+         */
+        final int[] handSizes;
+
+        /**
+         * Cards whose place is unknown to the CPU: in the deck or in another hand.
+         */
+        final Card[] unseen;
+
+        Observation(Game game, IPlayer self, BitsetHand hand, int tableSum) {
+            this.hand = hand.toArray(new Card[0]);
+            this.pile = game.getTable().getCards().toArray(new Card[0]);
+            this.tableSum = tableSum;
+            this.deckSize = game.getDeck().size();
+
+            // Active seats in turn order, starting with the CPU
+            List<IPlayer> players = game.getPlayers();
+            int first = players.indexOf(self);
+            List<IPlayer> seats = new ArrayList<>();
+            for (int i = 0; i < players.size(); i++) {
+                IPlayer player = players.get((first + i) % players.size());
+                if (player == self || player.isActive()) {
+                    seats.add(player);
+                }
+            }
+            this.human = new boolean[seats.size()];
+            this.handSizes = new int[seats.size()];
+            int cardsInGame = deckSize + pile.length;
+            for (int i = 0; i < seats.size(); i++) {
+                human[i] = seats.get(i).isHuman();
+                handSizes[i] = seats.get(i).getHand().size();
+                cardsInGame += handSizes[i];
+            }
+
+            // Every copy of every card, minus the ones the CPU can see
+            int deckCount = Math.max(1, (cardsInGame + CardCatalogue.SIZE - 1) / CardCatalogue.SIZE);
+            int[] copies = new int[CardCatalogue.SIZE];
+            Arrays.fill(copies, deckCount);
+            for (Card card : this.hand) {
+                if (card.getOrdinal() >= 0) {
+                    copies[card.getOrdinal()]--;
+                }
+            }
+            for (Card card : pile) {
+                if (card.getOrdinal() >= 0) {
+                    copies[card.getOrdinal()]--;
+                }
+            }
+            List<Card> unknown = new ArrayList<>();
+            for (int ordinal = 0; ordinal < CardCatalogue.SIZE; ordinal++) {
+                for (int c = copies[ordinal]; c > 0; c--) {
+                    unknown.add(CardCatalogue.get(ordinal));
+                }
+            }
+            this.unseen = unknown.toArray(new Card[0]);
+        }
+    }
+
+    /**
+     * Visit and win counts of each root move, shared by all workers.
+     */
+    private static final class Statistics {
+
+        private final AtomicLongArray visits;
+        private final AtomicLongArray wins;
+
+        Statistics(int moves) {
+            this.visits = new AtomicLongArray(moves);
+            this.wins = new AtomicLongArray(moves);
+        }
+
+        /**
+         * Picks the move to try next with UCB1 and counts the visit at once.
+         *
+         * @return the index of the move
+         */
+        int select() {
+            int moves = visits.length();
+            long total = 0;
+            for (int i = 0; i < moves; i++) {
+                total += visits.get(i);
+            }
+            double logTotal = Math.log(Math.max(total, 1));
+
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < moves; i++) {
+                long n = visits.get(i);
+                if (n == 0) {
+                    best = i; // Try every move once first
+                    break;
+                }
+                double score = (double) wins.get(i) / n + EXPLORATION * Math.sqrt(logTotal / n);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            visits.incrementAndGet(best);
+            return best;
+        }
+
+        /**
+         * Adds the outcome of a playout.
+         *
+         * @param move the index of the move that was tried
+         * @param won  whether the CPU won the playout
+         */
+        void record(int move, boolean won) {
+            if (won) {
+                wins.incrementAndGet(move);
+            }
+        }
+
+        /**
+         * Returns the move with the most visits.
+         *
+         * @return the index of the move
+         */
+        int mostVisited() {
+            int best = 0;
+            for (int i = 1; i < visits.length(); i++) {
+                if (visits.get(i) > visits.get(best)) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Runs playouts until the deadline.
+     */
+    private static final class Worker extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Observation observation;
+        private final LegalMoves moves;
+        private final Statistics statistics;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        Worker(Observation observation, LegalMoves moves, Statistics statistics, long deadline,
+               SplittableRandom random) {
+            this.observation = observation;
+            this.moves = moves;
+            this.statistics = statistics;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            while (System.nanoTime() < deadline) {
+                int move = statistics.select();
+                statistics.record(move, playout(moves.card(move)));
+            }
+        }
+
+        /**
+         * Samples a hidden state and plays it out, starting with the given move.
+         *
+         * @param move the CPU's first card
+         * @return {@code true} if the CPU wins the playout
+         */
+        private boolean playout(Card move) {
+            Card[] unseen = observation.unseen.clone();
+            for (int i = unseen.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Card tmp = unseen[i];
+                unseen[i] = unseen[j];
+                unseen[j] = tmp;
+            }
+
+            // Seat 0 is the CPU with its real hand; the others get unseen cards
+            int dealt = 0;
+            List<IPlayer> seats = new ArrayList<>(observation.human.length);
+            for (int seat = 0; seat < observation.human.length; seat++) {
+                RolloutPlayer player = new RolloutPlayer("Seat " + seat, observation.human[seat], random);
+                if (seat == 0) {
+                    for (Card card : observation.hand) {
+                        player.addCard(card);
+                    }
+                    player.firstMove = move;
+                } else {
+                    for (int c = 0; c < observation.handSizes[seat] && dealt < unseen.length; c++) {
+                        player.addCard(unseen[dealt++]);
+                    }
+                }
+                seats.add(player);
+            }
+            int deckEnd = Math.min(unseen.length, dealt + observation.deckSize);
+            Deck deck = new Deck(Arrays.asList(unseen).subList(dealt, deckEnd), random);
+
+            // The pile is taken as played: replaying it would apply one Ace rule to every card
+            Table table = new Table(Arrays.asList(observation.pile), observation.tableSum);
+            Game sample = new Game(seats, deck, table, random);
+            sample.setVerbose(false);
+
+            HeadlessGame playout = new HeadlessGame(sample, MAX_PLAYOUT_TURNS);
+            playout.resume();
+            try {
+                while (playout.step()) {
+                    // Play on until someone wins or the turn limit is hit
+                }
+            } catch (EmptyDeckException e) {
+                return false; // No card left to draw: nobody wins
+            }
+            return playout.getResult().getWinnerSeat() == 0;
+        }
+    }
+
+    /**
+     * Seat of a playout: plays a forced first card, then random legal cards.
+     */
+    private static final class RolloutPlayer extends Player {
+
+        private final boolean human;
+        private final RandomGenerator random;
+
+        /**
+         * Card to play on the first turn, or {@code null} once it has been played.
+         */
+        Card firstMove;
+
+        RolloutPlayer(String name, boolean human, RandomGenerator random) {
+            super(name);
+            this.human = human;
+            this.random = random;
+        }
+
+        @Override
+        public boolean isHuman() {
+            return human;
+        }
+
+        @Override
+        public Card playCard(int tableSum) {
+            Card card = firstMove;
+            firstMove = null;
+            if (card != null) {
+                hand.remove(card);
+                return card;
+            }
+            if (hand.nonCatalogueCount() == 0) {
+                // Pick a random playable bit, as RandomStrategy does, without allocating
+                long playable = hand.playableMask(tableSum, human);
+                if (playable == 0) {
+                    return null;
+                }
+                for (int skip = random.nextInt(Long.bitCount(playable)); skip > 0; skip--) {
+                    playable &= playable - 1;
+                }
+                return hand.removeOrdinal(Long.numberOfTrailingZeros(playable));
+            }
+            LegalMoves moves = LegalMoves.of(hand, tableSum, human);
+            if (moves.isEmpty()) {
+                return null;
+            }
+            card = moves.card(random.nextInt(moves.size()));
+            hand.remove(card);
+            return card;
+        }
+
+        @Override
+        public void removeCard(Card card) {
+            hand.remove(card);
+        }
+    }
+}
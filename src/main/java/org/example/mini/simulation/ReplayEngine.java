@@ -0,0 +1,144 @@
+package org.example.mini.simulation;
+
+/**
+ * Rebuilds recorded games deterministically from a {@link GameRecord}.
+ * <p>
+ * The replayed game is created exactly like the original seeded
+ * {@link HeadlessGame} (same master seed, same order of generator splits),
+ * so the deck order and every reshuffle are identical. Seats are replaced by
+ * players that simply play the recorded card, which means no AI decision is
+ * re-evaluated and replaying is as cheap as the game rules themselves.
+ * </p>
+ */
+public final class ReplayEngine {
+
+    /**
+     * Callback invoked while scanning a recorded game.
+     */
+    @FunctionalInterface
+    public interface ReplayListener {
+
+        /**
+         * Called after the deal ({@code turn == 0}) and after every replayed turn.
+         *
+         * @param turn   number of cards played so far
+         * @param replay the replayed game, positioned right after that turn
+         * @return {@code true} to continue scanning, {@code false} to stop
+         */
+        boolean afterTurn(int turn, HeadlessGame replay);
+    }
+
+    private ReplayEngine() {
+    }
+
+    /**
+     * Rebuilds the state of a recorded game right after the given turn.
+     *
+     * @param record the recorded game
+     * @param turns  number of recorded cards to replay ({@code 0} = right after the deal)
+     * @return the replayed game; use {@link HeadlessGame#getGame()} to inspect
+     *         the table, hands and active players
+     * @throws IllegalArgumentException if {@code turns} is outside the record
+     */
+    public static HeadlessGame replay(GameRecord record, int turns) {
+        if (turns < 0 || turns > record.getMoveCount()) {
+            throw new IllegalArgumentException("Turn " + turns + " is outside the record (0.." + record.getMoveCount() + ")");
+        }
+        HeadlessGame replay = create(record);
+        replay.start();
+        for (int turn = 0; turn < turns; turn++) {
+            replay.step();
+        }
+        return replay;
+    }
+
+    /**
+     * Replays a recorded game turn by turn, notifying the listener after each turn.
+     *
+     * @param record   the recorded game
+     * @param listener callback deciding whether to continue
+     */
+    public static void scan(GameRecord record, ReplayListener listener) {
+        HeadlessGame replay = create(record);
+        replay.start();
+        if (!listener.afterTurn(0, replay)) {
+            return;
+        }
+        for (int turn = 1; turn <= record.getMoveCount(); turn++) {
+            replay.step();
+            if (!listener.afterTurn(turn, replay)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the table was ever recycled into the deck during the game.
+     *
+     * @param record the recorded game
+     * @return {@code true} if at least one table recycle happened
+     */
+    public static boolean hasTableRecycle(GameRecord record) {
+        boolean[] found = new boolean[1];
+        scan(record, (turn, replay) -> {
+            found[0] = replay.getGame().getTableRecycles() > 0;
+            return !found[0];
+        });
+        return found[0];
+    }
+
+    /**
+     * Checks whether one elimination check ever removed every remaining player.
+     *
+     * @param record the recorded game
+     * @return {@code true} if all active players were eliminated in a single pass
+     */
+    public static boolean hasMassElimination(GameRecord record) {
+        boolean[] found = new boolean[1];
+        scan(record, (turn, replay) -> {
+            found[0] = replay.getLastEliminationCount() > 0
+                    && replay.getLastEliminationCount() == replay.getActiveBeforeLastCheck();
+            return !found[0];
+        });
+        return found[0];
+    }
+
+    /**
+     * Creates the replay engine for a record, mirroring the original construction.
+     *
+     * @param record the recorded game
+     * @return a not yet started headless game
+     */
+    private static HeadlessGame create(GameRecord record) {
+        MoveCursor cursor = new MoveCursor(record);
+        return new HeadlessGame(record.getSeats(),
+                (seat, random) -> new ReplayPlayer("Seat " + seat, record.isHumanSeat(seat), cursor),
+                record.getSeed(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Position in the recorded move list, shared by all seats of one replay.
+     */
+    static final class MoveCursor {
+
+        private final GameRecord record;
+        private int position;
+
+        MoveCursor(GameRecord record) {
+            this.record = record;
+        }
+
+        /**
+         * Returns the next recorded card ordinal.
+         *
+         * @return the ordinal of the next played card
+         * @throws IllegalStateException if every recorded move was already used
+         */
+        int next() {
+            if (position >= record.getMoveCount()) {
+                throw new IllegalStateException("No more recorded moves");
+            }
+            return record.getMove(position++);
+        }
+    }
+}
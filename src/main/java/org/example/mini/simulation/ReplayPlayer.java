@@ -0,0 +1,55 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.player.Player;
+
+/**
+ * Seat used during replay: instead of deciding, it plays the next card
+ * from a {@link GameRecord}.
+ */
+class ReplayPlayer extends Player {
+
+    /**
+     * Whether this seat uses the human Ace rule.
+     */
+    private final boolean human;
+
+    /**
+     * Cursor over the recorded moves, shared by every seat of the replayed game.
+     */
+    private final ReplayEngine.MoveCursor cursor;
+
+    ReplayPlayer(String name, boolean human, ReplayEngine.MoveCursor cursor) {
+        super(name);
+        this.human = human;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean isHuman() {
+        return human;
+    }
+
+    /**
+     * Removes and returns the card with the next recorded ordinal.
+     *
+     * @param tableSum the current table sum (unused)
+     * @return the recorded card
+     * @throws IllegalStateException if the recorded card is not in this hand
+     */
+    @Override
+    public Card playCard(int tableSum) {
+        int ordinal = cursor.next();
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i).getOrdinal() == ordinal) {
+                return hand.remove(i);
+            }
+        }
+        throw new IllegalStateException("Recorded card " + ordinal + " is not in the hand of " + name);
+    }
+
+    @Override
+    public void removeCard(Card card) {
+        hand.remove(card);
+    }
+}
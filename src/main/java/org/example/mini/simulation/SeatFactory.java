@@ -0,0 +1,28 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.player.IPlayer;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates the player sitting at a given seat for a new simulated game.
+ * <p>
+ * A factory is called once per seat and per game, so every game owns its
+ * own player instances and no state is shared between games running on
+ * different threads. Each call receives a random stream split from the
+ * game's master generator, which the player should use for all its
+ * decisions to keep seeded games reproducible.
+ * </p>
+ */
+@FunctionalInterface
+public interface SeatFactory {
+
+    /**
+     * Creates a fresh player for the given seat.
+     *
+     * @param seat   zero-based seat index (turn order)
+     * @param random random stream reserved for this player
+     * @return a new player instance; never shared with another game
+     */
+    IPlayer createSeat(int seat, RandomGenerator random);
+}
@@ -0,0 +1,73 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.player.MachinePlayer;
+import org.example.mini.model.player.strategy.CpuStrategies;
+import org.example.mini.model.player.strategy.CpuStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line entry point for bot-only tournaments.
+ * <p>
+ * Usage: {@code SimulationMain [games] [seats] [threads] [seed] [strategies]}.
+ * Defaults are 100000 games, 4 seats, one thread per available core, seed 0
+ * and the default strategy at every seat. {@code strategies} is a
+ * comma-separated list of {@link CpuStrategy} identifiers, one per seat in
+ * turn order (e.g. {@code greedy,random,lowest-risk}); a shorter list is
+ * repeated. The same seed always gives the same statistics. Every seat is a
+ * {@link MachinePlayer}; the merged statistics are printed at the end.
+ * </p>
+ */
+public class SimulationMain {
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000L;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+        List<CpuStrategy> strategies = parseStrategies(args.length > 4 ? args[4] : null);
+
+        TournamentRunner runner = new TournamentRunner(seats,
+                (seat, random) -> new MachinePlayer("CPU " + (seat + 1), random,
+                        strategies.get(seat % strategies.size())), seed);
+        for (int seat = 0; seat < seats; seat++) {
+            System.out.println("Seat " + seat + ": " + strategies.get(seat % strategies.size()).id());
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            TournamentStats stats = runner.run(games, pool);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println(stats);
+            System.out.printf("Played %d games on %d threads in %.2f s (%.0f games/s)%n",
+                    games, threads, seconds, games / seconds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parses the per-seat strategy list of the command line.
+     *
+     * @param arg comma-separated strategy identifiers, or {@code null} for the default
+     * @return the strategies in seat order, never empty
+     * @throws IllegalArgumentException if an identifier is unknown
+     */
+    private static List<CpuStrategy> parseStrategies(String arg) {
+        List<CpuStrategy> strategies = new ArrayList<>();
+        if (arg != null) {
+            for (String id : arg.split(",")) {
+                if (!id.isBlank()) {
+                    strategies.add(CpuStrategies.byId(id));
+                }
+            }
+        }
+        if (strategies.isEmpty()) {
+            strategies.add(CpuStrategies.defaultStrategy());
+        }
+        return strategies;
+    }
+}
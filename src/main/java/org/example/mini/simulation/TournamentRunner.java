@@ -0,0 +1,168 @@
+package org.example.mini.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays many independent headless games in parallel and merges their results.
+ * <p>
+ * The range of games is split recursively on a {@link ForkJoinPool}; every
+ * leaf task plays its games sequentially into its own {@link TournamentStats},
+ * and partial statistics are merged on the way back up. Each game creates its
+ * own deck, table and players through the {@link SeatFactory}, so workers
+ * share no mutable state and throughput scales with the number of cores.
+ * </p>
+ * <p>
+ * Game {@code i} is seeded with {@link #gameSeed(long, long)} of the master
+ * seed and {@code i}. Since the seed of a game depends only on its index and
+ * all statistics are plain sums, results are bit-identical whatever the
+ * number of threads or the way the range is split.
+ * </p>
+ */
+public class TournamentRunner {
+
+    /**
+     * Number of games below which a task stops splitting and plays sequentially.
+     */
+    private static final int LEAF_SIZE = 256;
+
+    /**
+     * Odd constant (2^64 divided by the golden ratio) used to spread game indices.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Number of seats in every game.
+     */
+    private final int seats;
+
+    /**
+     * Factory used to create the players of every game.
+     */
+    private final SeatFactory seatFactory;
+
+    /**
+     * Safety limit on the number of cards played in one game.
+     */
+    private final int maxTurns;
+
+    /**
+     * Seed from which every game seed is derived.
+     */
+    private final long masterSeed;
+
+    /**
+     * Creates a tournament runner using the default turn limit.
+     *
+     * @param seats       number of seats per game (at least 2)
+     * @param seatFactory factory creating a new player for each seat of each game
+     * @param masterSeed  seed from which every game seed is derived
+     */
+    public TournamentRunner(int seats, SeatFactory seatFactory, long masterSeed) {
+        this(seats, seatFactory, masterSeed, HeadlessGame.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a tournament runner.
+     *
+     * @param seats       number of seats per game (at least 2)
+     * @param seatFactory factory creating a new player for each seat of each game
+     * @param masterSeed  seed from which every game seed is derived
+     * @param maxTurns    safety limit on the number of cards played in one game
+     */
+    public TournamentRunner(int seats, SeatFactory seatFactory, long masterSeed, int maxTurns) {
+        if (seats < 2) {
+            throw new IllegalArgumentException("A tournament needs at least 2 seats: " + seats);
+        }
+        this.seats = seats;
+        this.seatFactory = seatFactory;
+        this.maxTurns = maxTurns;
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * Derives the seed of a single game from the master seed and the game index.
+     * <p>
+     * The index is spread with the golden-ratio increment and passed through
+     * a 64-bit finalizer, so neighbouring games get unrelated seeds.
+     * </p>
+     *
+     * @param masterSeed the tournament master seed
+     * @param gameIndex  zero-based index of the game
+     * @return the seed of that game
+     */
+    public static long gameSeed(long masterSeed, long gameIndex) {
+        long z = masterSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Runs the given number of games on the common fork/join pool.
+     *
+     * @param games number of games to play
+     * @return merged statistics of all games
+     */
+    public TournamentStats run(long games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the given number of games on the provided fork/join pool.
+     *
+     * @param games number of games to play
+     * @param pool  the pool executing the games
+     * @return merged statistics of all games
+     */
+    public TournamentStats run(long games, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative: " + games);
+        }
+        return pool.invoke(new GamesTask(0, games));
+    }
+
+    /**
+     * Plays a single game with freshly created players.
+     *
+     * @param gameIndex zero-based index of the game in the tournament
+     * @return the result of the game
+     */
+    GameResult playOne(long gameIndex) {
+        return new HeadlessGame(seats, seatFactory, gameSeed(masterSeed, gameIndex), maxTurns).play();
+    }
+
+    /**
+     * Fork/join task playing the games in the half-open range {@code [from, to)}.
+     */
+    private final class GamesTask extends RecursiveTask<TournamentStats> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+
+        GamesTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (to - from <= LEAF_SIZE) {
+                TournamentStats stats = new TournamentStats(seats);
+                for (long i = from; i < to; i++) {
+                    stats.record(playOne(i));
+                }
+                return stats;
+            }
+
+            long middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle);
+            GamesTask right = new GamesTask(middle, to);
+            left.fork();
+            TournamentStats rightStats = right.compute();
+            return left.join().merge(rightStats);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.mini.simulation;
+
+/**
+ * Aggregated statistics of many simulated games with the same seat layout.
+ * <p>
+ * Instances are not thread-safe: each worker fills its own instance and the
+ * partial results are combined with {@link #merge(TournamentStats)}. All
+ * counters are plain sums, so the merged result does not depend on how the
+ * games were split between workers.
+ * </p>
+ */
+public class TournamentStats {
+
+    /**
+     * Number of seats per game.
+     */
+    private final int seats;
+
+    /**
+     * Number of games recorded.
+     */
+    private long games;
+
+    /**
+     * Wins per seat.
+     */
+    private final long[] wins;
+
+    /**
+     * Games that ended with every player eliminated.
+     */
+    private long noWinner;
+
+    /**
+     * Games stopped by the turn limit.
+     */
+    private long truncated;
+
+    /**
+     * Sum of the lengths (in turns) of all recorded games.
+     */
+    private long totalTurns;
+
+    /**
+     * Length of the shortest recorded game.
+     */
+    private int shortestGame = Integer.MAX_VALUE;
+
+    /**
+     * Length of the longest recorded game.
+     */
+    private int longestGame;
+
+    /**
+     * Elimination counts indexed by {@code [seat][position]}.
+     */
+    private final long[][] eliminations;
+
+    /**
+     * Creates empty statistics for games with the given number of seats.
+     *
+     * @param seats number of seats per game
+     */
+    public TournamentStats(int seats) {
+        this.seats = seats;
+        this.wins = new long[seats];
+        this.eliminations = new long[seats][seats];
+    }
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param result the game result to add
+     */
+    public void record(GameResult result) {
+        games++;
+        int winner = result.getWinnerSeat();
+        if (winner >= 0) {
+            wins[winner]++;
+        } else if (result.isTruncated()) {
+            truncated++;
+        } else {
+            noWinner++;
+        }
+
+        int turns = result.getTurns();
+        totalTurns += turns;
+        shortestGame = Math.min(shortestGame, turns);
+        longestGame = Math.max(longestGame, turns);
+
+        for (int position = 0; position < result.getEliminationCount(); position++) {
+            eliminations[result.getEliminatedSeat(position)][position]++;
+        }
+    }
+
+    /**
+     * Adds all counters of another partial result into this one.
+     *
+     * @param other statistics gathered for the same seat layout
+     * @return this instance, for chaining
+     */
+    public TournamentStats merge(TournamentStats other) {
+        if (other.seats != seats) {
+            throw new IllegalArgumentException("Cannot merge stats for " + other.seats + " seats into " + seats);
+        }
+        games += other.games;
+        noWinner += other.noWinner;
+        truncated += other.truncated;
+        totalTurns += other.totalTurns;
+        shortestGame = Math.min(shortestGame, other.shortestGame);
+        longestGame = Math.max(longestGame, other.longestGame);
+        for (int seat = 0; seat < seats; seat++) {
+            wins[seat] += other.wins[seat];
+            for (int position = 0; position < seats; position++) {
+                eliminations[seat][position] += other.eliminations[seat][position];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of seats per game.
+     *
+     * @return the seat count
+     */
+    public int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Returns the number of recorded games.
+     *
+     * @return the game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games won by the given seat.
+     *
+     * @param seat zero-based seat index
+     * @return the win count of that seat
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Returns the number of games where every player was eliminated.
+     *
+     * @return the count of games without a winner
+     */
+    public long getNoWinnerGames() {
+        return noWinner;
+    }
+
+    /**
+     * Returns the number of games stopped by the turn limit.
+     *
+     * @return the count of truncated games
+     */
+    public long getTruncatedGames() {
+        return truncated;
+    }
+
+    /**
+     * Returns the total number of turns played across all games.
+     *
+     * @return the sum of game lengths
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Returns the average game length in turns.
+     *
+     * @return the mean number of turns, or {@code 0} if no game was recorded
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns the length of the shortest recorded game.
+     *
+     * @return the minimum number of turns, or {@code 0} if no game was recorded
+     */
+    public int getShortestGame() {
+        return games == 0 ? 0 : shortestGame;
+    }
+
+    /**
+     * Returns the length of the longest recorded game.
+     *
+     * @return the maximum number of turns
+     */
+    public int getLongestGame() {
+        return longestGame;
+    }
+
+    /**
+     * Returns how many times a seat was eliminated at a given position.
+     *
+     * @param seat     zero-based seat index
+     * @param position zero-based elimination position (0 = first out)
+     * @return the number of such eliminations
+     */
+    public long getEliminations(int seat, int position) {
+        return eliminations[seat][position];
+    }
+
+    /**
+     * Returns a short multi-line summary of the statistics.
+     *
+     * @return a human-readable report
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Games: ").append(games)
+                .append(", avg turns: ").append(String.format("%.2f", getAverageTurns()))
+                .append(", shortest: ").append(getShortestGame())
+                .append(", longest: ").append(longestGame)
+                .append(", no winner: ").append(noWinner)
+                .append(", truncated: ").append(truncated);
+        for (int seat = 0; seat < seats; seat++) {
+            sb.append(System.lineSeparator())
+                    .append("Seat ").append(seat)
+                    .append(": wins=").append(wins[seat])
+                    .append(String.format(" (%.2f%%)", games == 0 ? 0.0 : 100.0 * wins[seat] / games))
+                    .append(", eliminated by position=[");
+            for (int position = 0; position < seats; position++) {
+                if (position > 0) {
+                    sb.append(", ");
+                }
+                sb.append(eliminations[seat][position]);
+            }
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package org.example.mini.view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+
+/**
+ * All card faces and the card back packed into a single image, one atlas per {@link CardSize}.
+ * <p>
+ * The atlas is built once, on first use or ahead of time through
+ * {@link #preload()}, by decoding every card image at the atlas size and
+ * copying it into a grid of equal cells. Card nodes are plain
+ * {@link ImageView}s that all share the atlas image and select their card
+ * with a viewport, so redrawing the hand and the seats only changes
+ * viewports and the rendering pipeline keeps a single texture per size
+ * instead of one per card.
+ * </p>
+ * <p>
+ * Cells are indexed by card ordinal (see {@link CardCatalogue}); the card
+ * back uses the cell right after the last card. Non-standard cards, which
+ * have no ordinal, fall back to their own image from {@link ImageCache}.
+ * </p>
+ */
+public final class CardAtlas {
+
+    /**
+     * Cell index of the card back.
+     */
+    public static final int BACK_INDEX = CardCatalogue.SIZE;
+
+    /**
+     * Number of cells per atlas row.
+     */
+    private static final int COLUMNS = 8;
+
+    /**
+     * Number of cells in the atlas: every card plus the back.
+     */
+    private static final int CELLS = CardCatalogue.SIZE + 1;
+
+    /**
+     * Built atlases, indexed by {@link CardSize#ordinal()}.
+     */
+    private static final CardAtlas[] ATLASES = new CardAtlas[CardSize.values().length];
+
+    private final CardSize size;
+    private final Image image;
+    private final Rectangle2D[] viewports = new Rectangle2D[CELLS];
+
+    /**
+     * Builds the atlas for one size by decoding and packing every card image.
+     *
+     * @param size the size the cards are shown at
+     */
+    private CardAtlas(CardSize size) {
+        this.size = size;
+
+        // The first face fixes the cell size; every other image is decoded to exactly that size
+        Image first = ImageCache.decode(CardCatalogue.get(0).getImagePath(), size.getWidth(), size.getHeight(), true);
+        int cellWidth = (int) first.getWidth();
+        int cellHeight = (int) first.getHeight();
+        int rows = (CELLS + COLUMNS - 1) / COLUMNS;
+
+        WritableImage atlas = new WritableImage(COLUMNS * cellWidth, rows * cellHeight);
+        PixelWriter writer = atlas.getPixelWriter();
+        for (int cell = 0; cell < CELLS; cell++) {
+            int x = (cell % COLUMNS) * cellWidth;
+            int y = (cell / COLUMNS) * cellHeight;
+            viewports[cell] = new Rectangle2D(x, y, cellWidth, cellHeight);
+
+            String path = cell == BACK_INDEX ? ImageCache.CARD_BACK_PATH : CardCatalogue.get(cell).getImagePath();
+            try {
+                Image cellImage = cell == 0 ? first : ImageCache.decode(path, cellWidth, cellHeight, false);
+                int width = Math.min(cellWidth, (int) cellImage.getWidth());
+                int height = Math.min(cellHeight, (int) cellImage.getHeight());
+                writer.setPixels(x, y, width, height, cellImage.getPixelReader(), 0, 0);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Could not pack card image: " + e.getMessage());
+            }
+        }
+        this.image = atlas;
+    }
+
+    /**
+     * Returns the atlas for the given size, building it on first use.
+     *
+     * @param size the size the cards are shown at
+     * @return the shared atlas
+     */
+    public static CardAtlas get(CardSize size) {
+        synchronized (ATLASES) {
+            CardAtlas atlas = ATLASES[size.ordinal()];
+            if (atlas == null) {
+                atlas = new CardAtlas(size);
+                ATLASES[size.ordinal()] = atlas;
+            }
+            return atlas;
+        }
+    }
+
+    /**
+     * Starts building the atlas of every {@link CardSize} on a background daemon thread.
+     * <p>
+     * Intended to be called while the start screen is showing, so the game
+     * screen finds every card already packed. Safe to call more than once.
+     * </p>
+     */
+    public static void preload() {
+        Thread preloader = new Thread(() -> {
+            for (CardSize size : CardSize.values()) {
+                get(size);
+            }
+        }, "card-atlas-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * Returns the packed image shared by every card node of this size.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the region of the atlas that holds a cell.
+     *
+     * @param index a card ordinal, or {@link #BACK_INDEX}
+     * @return the viewport of the cell
+     */
+    public Rectangle2D getViewport(int index) {
+        return viewports[index];
+    }
+
+    /**
+     * Creates a node showing the face of a card.
+     *
+     * @param card the card to show
+     * @return a new image view
+     */
+    public ImageView createView(Card card) {
+        ImageView view = new ImageView();
+        show(view, card);
+        return view;
+    }
+
+    /**
+     * Creates a node showing the card back.
+     *
+     * @return a new image view
+     */
+    public ImageView createBackView() {
+        ImageView view = new ImageView(image);
+        view.setViewport(viewports[BACK_INDEX]);
+        return view;
+    }
+
+    /**
+     * Makes an existing node show the face of a card.
+     *
+     * @param view the node to update
+     * @param card the card to show
+     */
+    public void show(ImageView view, Card card) {
+        int ordinal = card.getOrdinal();
+        if (ordinal >= 0) {
+            view.setImage(image);
+            view.setViewport(viewports[ordinal]);
+        } else {
+            view.setImage(ImageCache.get(card, size));
+            view.setViewport(null);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.mini.view;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import org.example.mini.model.card.Card;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a row of card nodes in a container in sync with a list of cards.
+ * <p>
+ * The row keeps one {@link ImageView} per card it shows. When it is asked to
+ * show a new list, it removes the nodes of cards that are gone and creates
+ * nodes only for cards that are new; every other node, together with its
+ * click handler, is kept as is. Redrawing a hand after a play therefore
+ * touches the scene graph once for the card played and once for the card
+ * drawn, whatever the size of the hand.
+ * </p>
+ * <p>
+ * Cards are matched by identity, so a hand holding the same card twice
+ * (several decks) keeps one node for each copy. The row assumes it is the
+ * only one adding or removing children of its container, and must be used
+ * on the JavaFX Application Thread.
+ * </p>
+ */
+public class CardRow {
+
+    private final Pane container;
+    private final CardAtlas atlas;
+    private final double fitWidth;
+    private final double fitHeight;
+    private final boolean preserveRatio;
+    private final Consumer<Card> onClick;
+
+    /**
+     * Cards currently shown, in the same order as the container's children.
+     * Card backs are stored as {@code null}.
+     */
+    private final List<Card> shown = new ArrayList<>();
+
+    /**
+     * Creates a row that renders into the given container.
+     *
+     * @param container     the pane whose children are the card nodes
+     * @param size          the atlas size used for the card images
+     * @param fitWidth      the width each card node is fitted to
+     * @param fitHeight     the height each card node is fitted to
+     * @param preserveRatio whether card nodes keep the image aspect ratio
+     * @param onClick       called with the card when its node is clicked, or {@code null}
+     *                      for cards that cannot be clicked
+     */
+    public CardRow(Pane container, CardSize size, double fitWidth, double fitHeight,
+                   boolean preserveRatio, Consumer<Card> onClick) {
+        this.container = container;
+        this.atlas = CardAtlas.get(size);
+        this.fitWidth = fitWidth;
+        this.fitHeight = fitHeight;
+        this.preserveRatio = preserveRatio;
+        this.onClick = onClick;
+    }
+
+    /**
+     * Shows the faces of the given cards, in order.
+     *
+     * @param cards the cards to show
+     */
+    public void show(List<Card> cards) {
+        ObservableList<Node> children = container.getChildren();
+        int n = cards.size();
+        boolean[] kept = new boolean[n];
+
+        // Drop the nodes of cards that are no longer in the list
+        for (int i = shown.size() - 1; i >= 0; i--) {
+            Card card = shown.get(i);
+            int match = card == null ? -1 : indexOf(cards, card, kept);
+            if (match >= 0) {
+                kept[match] = true;
+            } else {
+                shown.remove(i);
+                children.remove(i);
+            }
+        }
+
+        // Create nodes only for the new cards, at their position in the list
+        for (int i = 0; i < n; i++) {
+            if (!kept[i]) {
+                Card card = cards.get(i);
+                shown.add(i, card);
+                children.add(i, createNode(card));
+            }
+        }
+
+        // Kept cards normally keep their relative order; fall back to reordering if they did not
+        for (int i = 0; i < n; i++) {
+            if (shown.get(i) != cards.get(i)) {
+                reorder(cards);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Shows the given number of card backs.
+     *
+     * @param count the number of backs to show
+     */
+    public void showBacks(int count) {
+        ObservableList<Node> children = container.getChildren();
+        for (int i = shown.size() - 1; i >= 0; i--) {
+            if (shown.get(i) != null || i >= count) {
+                shown.remove(i);
+                children.remove(i);
+            }
+        }
+        while (shown.size() < count) {
+            shown.add(null);
+            children.add(createNode(null));
+        }
+    }
+
+    /**
+     * Removes every card node.
+     */
+    public void clear() {
+        shown.clear();
+        container.getChildren().clear();
+    }
+
+    /**
+     * Finds the first position of a card in the list that is not yet matched.
+     *
+     * @param cards the list to search
+     * @param card  the card to find, by identity
+     * @param taken positions already matched to another node
+     * @return the position, or {@code -1} if there is none
+     */
+    private static int indexOf(List<Card> cards, Card card, boolean[] taken) {
+        for (int i = 0, n = cards.size(); i < n; i++) {
+            if (!taken[i] && cards.get(i) == card) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reorders the existing nodes to follow the list, reusing every node.
+     *
+     * @param cards the cards in the order to show, holding exactly the shown cards
+     */
+    private void reorder(List<Card> cards) {
+        List<Node> nodes = new ArrayList<>(container.getChildren());
+        List<Node> ordered = new ArrayList<>(cards.size());
+        boolean[] used = new boolean[nodes.size()];
+        for (Card card : cards) {
+            for (int j = 0; j < shown.size(); j++) {
+                if (!used[j] && shown.get(j) == card) {
+                    used[j] = true;
+                    ordered.add(nodes.get(j));
+                    break;
+                }
+            }
+        }
+        shown.clear();
+        shown.addAll(cards);
+        container.getChildren().setAll(ordered);
+    }
+
+    /**
+     * Creates the node of a card, with its click handler bound to that card.
+     *
+     * @param card the card to show, or {@code null} for a card back
+     * @return the new node
+     */
+    private ImageView createNode(Card card) {
+        ImageView view = card == null ? atlas.createBackView() : atlas.createView(card);
+        view.setFitWidth(fitWidth);
+        view.setFitHeight(fitHeight);
+        view.setPreserveRatio(preserveRatio);
+        if (card != null && onClick != null) {
+            view.setOnMouseClicked(e -> onClick.accept(card));
+        }
+        return view;
+    }
+}
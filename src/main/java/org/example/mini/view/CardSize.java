@@ -0,0 +1,49 @@
+package org.example.mini.view;
+
+/**
+ * Display sizes at which card images are decoded.
+ * <p>
+ * Each constant is the box a card image is fitted into on screen; card
+ * images keep their aspect ratio, so the decoded image may be narrower or
+ * shorter than the box. Views that show a card slightly smaller than a
+ * size (e.g. the hand at 90x130 using {@link #LARGE}) only scale it down.
+ * </p>
+ */
+public enum CardSize {
+
+    /**
+     * Cards in the seat boxes of every player.
+     */
+    SMALL(60, 90),
+
+    /**
+     * Cards in the human player's hand and on the table.
+     */
+    LARGE(100, 150);
+
+    private final int width;
+    private final int height;
+
+    CardSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the width of the box, in pixels.
+     *
+     * @return the width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the box, in pixels.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+}
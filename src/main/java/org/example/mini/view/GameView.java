@@ -4,20 +4,24 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.TransferMode;
-import javafx.application.Platform;
 
 import org.example.mini.model.card.Card;
-import org.example.mini.model.Table;
 import org.example.mini.model.game.Game;
+import org.example.mini.model.game.GameListener;
+import org.example.mini.model.game.GameLoop;
+import org.example.mini.model.game.GameSnapshot;
+import org.example.mini.model.game.TurnClock;
 import org.example.mini.model.player.HumanPlayer;
+import org.example.mini.model.player.IPlayer;
 import org.example.mini.model.player.MachinePlayer;
-import org.example.mini.util.TurnMonitorThread;
+
+import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * GameView class
@@ -25,15 +29,24 @@ import org.example.mini.util.TurnMonitorThread;
  * This class builds and manages the main game window for "Cincuentazo".
  * It displays the current game state (table, hands, turns) and handles
  * player interactions like clicking or dragging cards.
+ * The game is owned by a {@link GameLoop}; the view reads its snapshots.
  */
 public class GameView {
 
     /** --- Core game references --- */
-    private final Game game;   // Current game logic instance
-    private final Stage stage; // Main window for this view
+    private final GameLoop loop; // Owner of the game logic instance
+    private final Stage stage;   // Main window for this view
+
+    /** Coalesces redraws requested from the CPU thread into one per part and pulse */
+    private final UiUpdateScheduler ui = new UiUpdateScheduler();
 
-    /** Thread to monitor whose turn it is */
-    private TurnMonitorThread turnMonitor;
+    /** Listener enabling or disabling the hand when the turn changes */
+    private final GameListener turnListener = new GameListener() {
+        @Override
+        public void onTurnStarted(IPlayer player) {
+            ui.markDirty(UiUpdateScheduler.Part.TURN);
+        }
+    };
 
     /** Flag to know if the human player can make a move */
     private boolean playerCanPlay = false;
@@ -43,6 +56,13 @@ public class GameView {
     private Label lblTableSum;   // Shows the current table sum
     private ImageView imgLastCard; // Shows the last card played
     private HBox handContainer;  // Displays the human player's cards
+    private CardRow handRow;     // Card nodes of the hand, kept across redraws
+
+    /** Next scheduled CPU move, if any */
+    private volatile Future<?> pendingCpuTurn;
+
+    /** Clock that times the delay between CPU moves */
+    private TurnClock turnClock = TurnClock.realTime();
 
     /**
      * Creates a new {@code GameView} bound to the given game logic and window.
@@ -51,7 +71,14 @@ public class GameView {
      * @param stage the JavaFX {@link Stage} where this view will be shown
      */
     public GameView(Game game, Stage stage) {
-        this.game = game;
+        game.addListener(turnListener);
+        this.loop = new GameLoop(game);
+        loop.addSnapshotListener(snapshot -> {
+            // Every change to the game redraws the table and the hand on the next pulse
+            ui.markDirty(UiUpdateScheduler.Part.TABLE);
+            ui.markDirty(UiUpdateScheduler.Part.HAND);
+            ui.markDirty(UiUpdateScheduler.Part.TURN);
+        });
         this.stage = stage;
     }
 
@@ -64,8 +91,9 @@ public class GameView {
 
         // --- Top section: status info (turn + table sum) ---
         VBox topBox = new VBox(5);
-        lblTurn = new Label("Turn: " + game.getCurrentPlayer().getName());
-        lblTableSum = new Label("Table sum: " + game.getTable().getTableSum());
+        GameSnapshot snapshot = loop.getSnapshot();
+        lblTurn = new Label("Turn: " + snapshot.getCurrentPlayer().getName());
+        lblTableSum = new Label("Table sum: " + snapshot.getTableSum());
         topBox.getChildren().addAll(lblTurn, lblTableSum);
         topBox.setAlignment(Pos.CENTER);
 
@@ -81,6 +109,14 @@ public class GameView {
         // --- Bottom section: human player's hand ---
         handContainer = new HBox(10);
         handContainer.setAlignment(Pos.CENTER);
+        handRow = new CardRow(handContainer, CardSize.LARGE, 90, 130, true, card -> {
+            // Only allow play if it's the player's turn
+            if (playerCanPlay) {
+                playerCanPlay = false;      // Lock play immediately
+                handContainer.setDisable(true);
+                playHumanCard(card);
+            }
+        });
         updateHand(); // Load player cards visually
 
         // Add all sections to the root layout
@@ -92,35 +128,41 @@ public class GameView {
         Scene scene = new Scene(root, 600, 500);
         stage.setScene(scene);
         stage.setTitle("50tazo - Game");
+        stage.setOnHidden(e -> close());
         stage.show();
 
-        // --- Start turn monitoring thread ---
-        turnMonitor = new TurnMonitorThread(
-                game,
-                () -> { // When it's the human player's turn
-                    playerCanPlay = true;
-                    handContainer.setDisable(false);
-                },
-                () -> { // When it's a CPU player's turn
-                    playerCanPlay = false;
-                    handContainer.setDisable(true);
-                }
-        );
-        turnMonitor.start();
+        // --- Redraw each part at most once per pulse ---
+        ui.on(UiUpdateScheduler.Part.TABLE, this::updateTable)
+                .on(UiUpdateScheduler.Part.HAND, this::updateHand)
+                .on(UiUpdateScheduler.Part.TURN, this::showTurn)
+                .onStatus(lblTableSum::setText)
+                .start();
+
+        // --- React to turn changes ---
+        showTurn();
+    }
+
+    /**
+     * Shows whose turn it is and lets the human play only on their own turn.
+     */
+    private void showTurn() {
+        updateTurn();
+        GameSnapshot snapshot = loop.getSnapshot();
+        playerCanPlay = snapshot.getCurrentPlayer().isHuman() && !snapshot.isGameOver();
+        handContainer.setDisable(!playerCanPlay);
     }
 
     /**
      * Updates the table display: sum and last card image.
      */
     public void updateTable() {
-        Table table = game.getTable();
-        lblTableSum.setText("Table sum: " + table.getTableSum());
+        GameSnapshot snapshot = loop.getSnapshot();
+        lblTableSum.setText("Table sum: " + snapshot.getTableSum());
 
-        Card last = table.getLastCard();
+        Card last = snapshot.getLastCard();
         if (last != null) {
             try {
-                Image image = new Image(getClass().getResourceAsStream(last.getImagePath()));
-                imgLastCard.setImage(image);
+                CardAtlas.get(CardSize.LARGE).show(imgLastCard, last);
             } catch (Exception e) {
                 System.out.println("Error loading image: " + last.getImagePath());
             }
@@ -133,38 +175,14 @@ public class GameView {
      * Updates the human player's hand on screen and assigns click/drag events.
      */
     public void updateHand() {
-        handContainer.getChildren().clear();
-
-        HumanPlayer human = (HumanPlayer) game.getPlayers().get(0);
+        List<Card> hand = loop.getSnapshot().getSeats().get(0).getHand();
 
         // Clear any previous drag events on the table area
         imgLastCard.setOnDragOver(null);
         imgLastCard.setOnDragDropped(null);
 
-        // --- Render each card in the player's hand ---
-        for (Card card : human.getHand()) {
-            try {
-                Image image = new Image(getClass().getResourceAsStream(card.getImagePath()));
-                ImageView imageView = new ImageView(image);
-                imageView.setFitWidth(90);
-                imageView.setFitHeight(130);
-                imageView.setPreserveRatio(true);
-
-                // --- Direct click on card ---
-                imageView.setOnMouseClicked(e -> {
-                    // Only allow play if it's the player's turn
-                    if (playerCanPlay) {
-                        playerCanPlay = false;      // Lock play immediately
-                        handContainer.setDisable(true);
-                        playHumanCard(card);
-                    }
-                });
-
-                handContainer.getChildren().add(imageView);
-            } catch (Exception e) {
-                System.out.println("Error showing card: " + card.getImagePath());
-            }
-        }
+        // --- Render the player's hand, reusing the nodes of cards still in it ---
+        handRow.show(hand);
 
         // --- Define drag-and-drop behavior for the table image ---
         imgLastCard.setOnDragOver(e -> {
@@ -179,7 +197,7 @@ public class GameView {
             if (playerCanPlay && db.hasString()) {  // Validate turn again
                 playerCanPlay = false;
                 handContainer.setDisable(true);
-                playHumanCard(human.getHand().stream()
+                playHumanCard(hand.stream()
                         .filter(c -> (c.getValue() + "-" + c.getSuit()).equals(db.getString()))
                         .findFirst()
                         .orElse(null));
@@ -199,81 +217,102 @@ public class GameView {
         playerCanPlay = false;
         handContainer.setDisable(true);
 
-        HumanPlayer human = (HumanPlayer) game.getPlayers().get(0);
-        boolean valid = game.getTable().placeCard(card);
+        loop.submit(game -> {
+            HumanPlayer human = (HumanPlayer) game.getPlayers().get(0);
+            if (!game.getTable().placeCard(card)) {
+                return false;
+            }
 
-        // Invalid move (sum exceeds 50)
-        if (!valid) {
-            lblTableSum.setText("Cannot exceed 50!");
-            playerCanPlay = true;
-            handContainer.setDisable(false);
-            return;
-        }
+            // Valid move: remove card and pass the turn
+            human.getHand().remove(card);
+            game.nextTurn();
+            return true;
+        }).thenAccept(valid -> {
+            if (valid) {
+                // Trigger CPU players' turns
+                runCpuTurns();
+            } else {
+                // Invalid move (sum exceeds 50); the turn refresh unlocks the hand again
+                ui.setStatus("Cannot exceed 50!");
+            }
+        });
+    }
 
-        // Valid move: remove card and refresh UI
-        human.getHand().remove(card);
-        updateTable();
-        updateHand();
+    /**
+     * Runs CPU player turns as delayed steps on the game loop.
+     * No thread waits between moves, and closing the window cancels the next one.
+     */
+    private void runCpuTurns() {
+        scheduleCpuTurn(0);
+    }
 
-        game.nextTurn();
-        updateTurn();
+    /**
+     * Schedules the next CPU move; each move schedules the following one
+     * while CPUs have turns and the game isn't over.
+     *
+     * @param delayMillis delay before the move, in milliseconds
+     */
+    private void scheduleCpuTurn(long delayMillis) {
+        pendingCpuTurn = turnClock.schedule(loop, game -> {
+            if (playCpuTurn(game)) {
+                scheduleCpuTurn(1200); // Small delay for realism
+            } else if (game.isGameOver()) {
+                loop.shutdown(); // Nothing is left to run
+            }
+        }, delayMillis);
+    }
 
-        // Trigger CPU players' turns
-        runCpuTurns();
+    /**
+     * Replaces the clock that times the delay between CPU moves
+     * (e.g. {@link TurnClock#instant()} for automated runs).
+     *
+     * @param turnClock the clock to use
+     */
+    public void setTurnClock(TurnClock turnClock) {
+        this.turnClock = turnClock;
     }
 
     /**
-     * Runs CPU player turns in a background thread.
+     * Stops the game when the window is closed: cancels the next CPU move
+     * and stops the game loop thread and the view updates.
      */
-    private void runCpuTurns() {
-        Thread cpuThread = new Thread(() -> {
-            // Keep looping while CPUs have turns and the game isn't over
-            while (game.getCurrentPlayer() instanceof MachinePlayer && !game.isGameOver()) {
-                MachinePlayer cpu = (MachinePlayer) game.getCurrentPlayer();
-                Card move = cpu.playCard(game.getTable().getTableSum());
-
-                if (move != null) {
-                    boolean valid = game.getTable().placeCard(move);
-                    if (!valid) {
-                        // CPU tried to play an invalid move
-                        Platform.runLater(() -> lblTableSum.setText("CPU move skipped (would exceed 50)"));
-                        game.nextTurn();
-                        continue;
-                    }
-
-                    // Apply the valid move visually in the JavaFX thread
-                    Platform.runLater(() -> {
-                        game.getTable().placeCard(move);
-                        updateTable();
-                        updateTurn();
-                    });
-                }
-
-                // Proceed to the next turn and pause slightly
-                game.nextTurn();
-
-                try {
-                    Thread.sleep(1200); // Small delay for realism
-                } catch (InterruptedException ignored) {}
-            }
+    public void close() {
+        Future<?> next = pendingCpuTurn;
+        if (next != null) {
+            next.cancel(false);
+        }
+        loop.shutdown();
+        ui.stop();
+    }
 
-            // Once CPUs are done, return control to the human player
-            Platform.runLater(() -> {
-                updateTurn();
-                playerCanPlay = true;
-                handContainer.setDisable(false);
-                updateHand(); // Rebuild UI and clean events
-            });
-        });
+    /**
+     * Plays the turn of the current CPU player, if any. Runs on the game loop.
+     *
+     * @param game the game owned by the loop
+     * @return {@code true} if a CPU turn was played, {@code false} if it is the
+     *         human player's turn or the game is over
+     */
+    private boolean playCpuTurn(Game game) {
+        if (game.isGameOver() || !(game.getCurrentPlayer() instanceof MachinePlayer)) {
+            return false;
+        }
 
-        cpuThread.setDaemon(true); // Daemon thread stops when app closes
-        cpuThread.start();
+        MachinePlayer cpu = (MachinePlayer) game.getCurrentPlayer();
+        Card move = cpu.playCard(game.getTable().getTableSum());
+        if (move != null && !game.getTable().placeCard(move)) {
+            // CPU tried to play an invalid move
+            ui.setStatus("CPU move skipped (would exceed 50)");
+        }
+
+        // Proceed to the next turn
+        game.nextTurn();
+        return true;
     }
 
     /**
      * Updates the label showing the current player's name.
      */
     public void updateTurn() {
-        lblTurn.setText("Turn: " + game.getCurrentPlayer().getName());
+        lblTurn.setText("Turn: " + loop.getSnapshot().getCurrentPlayer().getName());
     }
 }
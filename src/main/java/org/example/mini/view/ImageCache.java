@@ -0,0 +1,122 @@
+package org.example.mini.view;
+
+import javafx.scene.image.Image;
+import org.example.mini.model.card.Card;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared, thread-safe cache of decoded images, keyed by classpath resource
+ * path and display size.
+ * <p>
+ * Images are decoded directly at the size they are shown at, using the
+ * requested-size {@link Image} constructor, instead of decoding the full
+ * resolution asset and letting an {@link javafx.scene.image.ImageView}
+ * scale it down. Each (path, size) pair is decoded at most once per JVM;
+ * later requests return the same {@link Image} instance, so redrawing hands
+ * and the table does no decoding. Standard card faces are normally drawn
+ * from {@link CardAtlas} instead; the per-card entries here serve cards
+ * that are not part of the atlas.
+ * </p>
+ */
+public final class ImageCache {
+
+    /**
+     * Classpath location of the card back image.
+     */
+    public static final String CARD_BACK_PATH = "/org/example/mini/view/images/_/cardback.png";
+
+    /**
+     * Classpath location of the application icon.
+     */
+    public static final String ICON_PATH = "/org/example/mini/view/images/_/poker-cards.png";
+
+    /**
+     * Edge length, in pixels, at which the application icon is decoded.
+     */
+    public static final int ICON_SIZE = 64;
+
+    /**
+     * Decoded images by {@code "path@widthxheight"}.
+     */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private ImageCache() {
+    }
+
+    /**
+     * Returns an image decoded to fit in the given box, decoding it on first use.
+     * <p>
+     * The aspect ratio is preserved, so the decoded image fits inside
+     * {@code width x height}. A dimension of {@code 0} means it is derived
+     * from the other one.
+     * </p>
+     *
+     * @param path   absolute classpath location of the image
+     * @param width  requested width in pixels
+     * @param height requested height in pixels
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static Image get(String path, int width, int height) {
+        return IMAGES.computeIfAbsent(path + '@' + width + 'x' + height, key -> decode(path, width, height, true));
+    }
+
+    /**
+     * Returns the face image of a card at the given display size.
+     *
+     * @param card the card to show
+     * @param size the size the card is shown at
+     * @return the shared decoded image of the card face
+     */
+    public static Image get(Card card, CardSize size) {
+        return get(card.getImagePath(), size.getWidth(), size.getHeight());
+    }
+
+    /**
+     * Returns the card back image at the given display size.
+     *
+     * @param size the size the card is shown at
+     * @return the shared decoded card back
+     */
+    public static Image cardBack(CardSize size) {
+        return get(CARD_BACK_PATH, size.getWidth(), size.getHeight());
+    }
+
+    /**
+     * Returns the application icon.
+     *
+     * @return the shared decoded icon
+     */
+    public static Image icon() {
+        return get(ICON_PATH, ICON_SIZE, ICON_SIZE);
+    }
+
+    /**
+     * Decodes an image from the classpath at the requested size, with smoothing,
+     * without caching it.
+     *
+     * @param path          absolute classpath location of the image
+     * @param width         requested width in pixels
+     * @param height        requested height in pixels
+     * @param preserveRatio whether to keep the aspect ratio inside the requested box
+     * @return the decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     * @throws UncheckedIOException     if the resource stream cannot be closed
+     */
+    static Image decode(String path, int width, int height, boolean preserveRatio) {
+        // Decoding from a stream is synchronous, so the stream can be closed right after
+        try (InputStream stream = ImageCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Image resource not found: " + path);
+            }
+            return new Image(stream, width, height, preserveRatio, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read image resource: " + path, e);
+        }
+    }
+}
@@ -60,6 +60,9 @@ public class StartView {
             // Initialize the controller with the game instance
             gameController.init(game);
 
+            // Release the game threads when the window is closed
+            stage.setOnHidden(e -> gameController.shutdown());
+
             // Configure and display the main game window
             stage.setTitle("Cincuentazo - " + cpuCount + " CPUs");
             stage.setScene(new Scene(root));
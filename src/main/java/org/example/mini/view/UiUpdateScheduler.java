@@ -0,0 +1,150 @@
+package org.example.mini.view;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces view updates requested from any thread and applies them at most
+ * once per JavaFX pulse.
+ * <p>
+ * Instead of posting a {@code Platform.runLater} task for every change,
+ * callers mark the affected {@link Part} of the view as dirty. An
+ * {@link AnimationTimer} checks the dirty parts on every pulse and runs the
+ * renderer of each dirty part once, however many times it was marked since
+ * the previous pulse. The FX event queue therefore never holds more than
+ * one pending redraw per part.
+ * </p>
+ * <p>
+ * The status text is handled the same way: only the latest text set
+ * before a pulse is shown. Parts are rendered in the order they are
+ * declared in {@link Part}, so the status text is applied last.
+ * </p>
+ */
+public class UiUpdateScheduler {
+
+    /**
+     * Parts of the game view that can be redrawn independently.
+     */
+    public enum Part {
+        /** Table sum and last card. */
+        TABLE,
+        /** Seat boxes of every player. */
+        SEATS,
+        /** The human player's hand. */
+        HAND,
+        /** Turn highlight and whether the hand accepts input. */
+        TURN,
+        /** The status message. */
+        STATUS
+    }
+
+    private static final Part[] PARTS = Part.values();
+
+    /**
+     * Dirty parts, one bit per {@link Part#ordinal()}.
+     */
+    private final AtomicInteger dirty = new AtomicInteger();
+
+    /**
+     * Latest status text not yet shown, or {@code null}.
+     */
+    private final AtomicReference<String> pendingStatus = new AtomicReference<>();
+
+    private final Runnable[] renderers = new Runnable[PARTS.length];
+    private Consumer<String> statusRenderer = text -> { };
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * Sets the code that redraws a part of the view. Parts without a renderer are ignored.
+     *
+     * @param part     the part of the view
+     * @param renderer code run on the JavaFX Application Thread to redraw it
+     * @return this scheduler
+     */
+    public UiUpdateScheduler on(Part part, Runnable renderer) {
+        renderers[part.ordinal()] = renderer;
+        return this;
+    }
+
+    /**
+     * Sets the code that shows the status text.
+     *
+     * @param renderer code run on the JavaFX Application Thread with the latest text
+     * @return this scheduler
+     */
+    public UiUpdateScheduler onStatus(Consumer<String> renderer) {
+        statusRenderer = renderer;
+        return this;
+    }
+
+    /**
+     * Starts flushing on every pulse. Must be called on the JavaFX Application Thread.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops flushing. Pending updates are kept until the scheduler is started again.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Marks a part of the view as needing a redraw on the next pulse. Can be called from any thread.
+     *
+     * @param part the part to redraw
+     */
+    public void markDirty(Part part) {
+        int bit = 1 << part.ordinal();
+        if ((dirty.get() & bit) == 0) {
+            dirty.getAndUpdate(bits -> bits | bit);
+        }
+    }
+
+    /**
+     * Sets the status text shown on the next pulse, replacing any text not yet shown.
+     * Can be called from any thread.
+     *
+     * @param text the status text
+     */
+    public void setStatus(String text) {
+        pendingStatus.set(text);
+        markDirty(Part.STATUS);
+    }
+
+    /**
+     * Runs the renderer of every dirty part once and clears the dirty parts.
+     * Called on every pulse; must run on the JavaFX Application Thread.
+     */
+    public void flush() {
+        int bits = dirty.getAndSet(0);
+        if (bits == 0) {
+            return;
+        }
+        for (Part part : PARTS) {
+            if ((bits & (1 << part.ordinal())) == 0) {
+                continue;
+            }
+            if (part == Part.STATUS) {
+                String text = pendingStatus.getAndSet(null);
+                if (text != null) {
+                    statusRenderer.accept(text);
+                }
+            } else if (renderers[part.ordinal()] != null) {
+                renderers[part.ordinal()].run();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.mini.model.player;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BitsetHand class.
+ * The mask-based checks must agree with the per-card rules, and the list
+ * view must follow every change.
+ */
+class BitsetHandTest {
+
+    /**
+     * hasPlayable and bestPlayable must match a plain scan with
+     * Card.canBePlayed for random hands and every reachable sum.
+     */
+    @Test
+    void testMaskChecksMatchCardRules() {
+        SplittableRandom random = new SplittableRandom(21L);
+        for (int round = 0; round < 200; round++) {
+            BitsetHand hand = new BitsetHand();
+            for (int i = 0; i < 4; i++) {
+                hand.add(CardCatalogue.get(random.nextInt(CardCatalogue.SIZE)));
+            }
+            for (int sum = -40; sum <= 50; sum++) {
+                for (boolean human : new boolean[]{true, false}) {
+                    boolean expected = false;
+                    int bestSum = Integer.MIN_VALUE;
+                    for (Card card : hand) {
+                        if (card.canBePlayed(sum, human)) {
+                            expected = true;
+                            bestSum = Math.max(bestSum, sum + card.getGameValue(sum, human));
+                        }
+                    }
+                    assertEquals(expected, hand.hasPlayable(sum, human), "sum " + sum);
+                    Card best = hand.bestPlayable(sum, human);
+                    assertEquals(expected, best != null);
+                    if (best != null) {
+                        assertEquals(bestSum, sum + best.getGameValue(sum, human));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Duplicate cards from several decks are counted, and the list view
+     * follows each change in insertion order.
+     */
+    @Test
+    void testDuplicatesAndListView() {
+        Card king = CardCatalogue.of("spades", "K");
+        Card two = CardCatalogue.of("hearts", "2");
+        BitsetHand hand = new BitsetHand();
+        hand.add(king);
+        hand.add(two);
+        hand.add(king);
+
+        assertEquals(List.of(king, two, king), hand, "Cards are listed in the order they were added");
+        assertEquals(2, hand.rankCount(CardCatalogue.KING));
+
+        assertTrue(hand.remove(king));
+        assertTrue(hand.contains(king), "One copy must remain");
+        assertEquals(List.of(two, king), hand);
+
+        assertSame(two, hand.remove(0));
+        assertTrue(hand.remove(king));
+        assertFalse(hand.remove(king));
+        assertTrue(hand.isEmpty());
+        assertEquals(0L, hand.mask());
+    }
+
+    /**
+     * The list methods must agree with contains, keep the added instances
+     * and reject null; removing by ordinal returns the held instance.
+     */
+    @Test
+    void testListContract() {
+        Card seven = new Card("clubs", "7");
+        Card shared = CardCatalogue.of("clubs", "7");
+        Card ace = CardCatalogue.of("hearts", "A");
+        BitsetHand hand = new BitsetHand();
+        hand.add(seven);
+        hand.add(ace);
+        hand.add(seven);
+
+        assertSame(seven, hand.get(0), "The added instance must be returned");
+        assertTrue(hand.contains(shared));
+        assertEquals(0, hand.indexOf(shared), "indexOf must match like contains");
+        assertEquals(2, hand.lastIndexOf(shared));
+        assertEquals(-1, hand.indexOf(CardCatalogue.of("hearts", "7")));
+        assertEquals(-1, hand.indexOf("7"));
+
+        assertTrue(hand.remove(shared));
+        assertEquals(List.of(ace, seven), hand);
+        assertThrows(NullPointerException.class, () -> hand.add(null));
+        assertEquals(2, hand.size());
+
+        assertSame(seven, hand.removeOrdinal(shared.getOrdinal()), "The held instance must be removed");
+        assertNull(hand.removeOrdinal(shared.getOrdinal()));
+        assertEquals(List.of(ace), hand);
+    }
+}
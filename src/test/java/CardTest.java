@@ -12,7 +12,7 @@ public class CardTest {
 
     /**
      * Ensures the constructor correctly initializes suit, rank,
-     * and that cards start face down.
+     * and the precomputed rank and suit codes.
      */
     @Test
     void testConstructorAndBasicGetters() {
@@ -20,21 +20,33 @@ public class CardTest {
 
         assertEquals("hearts", card.getSuit());
         assertEquals("A", card.getRank());
-        assertFalse(card.isFaceUp());
+        assertEquals(CardCatalogue.ACE, card.getRankIndex());
+        assertEquals(0, card.getSuitIndex());
     }
 
     /**
-     * Verifies that the faceUp property toggles correctly.
+     * The catalogue must return one shared instance per card, and ordinals
+     * must round-trip to the same instance.
      */
     @Test
-    void testFaceUpSetter() {
-        Card card = new Card("spades", "K");
-
-        card.setFaceUp(true);
-        assertTrue(card.isFaceUp());
+    void testCatalogueIsCanonical() {
+        assertEquals(52, CardCatalogue.all().size());
+        for (int ordinal = 0; ordinal < CardCatalogue.SIZE; ordinal++) {
+            Card card = CardCatalogue.get(ordinal);
+            assertEquals(ordinal, card.getOrdinal());
+            assertSame(card, CardCatalogue.of(card.getSuit(), card.getRank()));
+        }
+        assertSame(CardCatalogue.of("spades", "K"), CardCatalogue.of("SPADES", "king"));
+    }
 
-        card.setFaceUp(false);
-        assertFalse(card.isFaceUp());
+    /**
+     * Long rank names are parsed to the same codes as the short ones.
+     */
+    @Test
+    void testLongRankNames() {
+        assertEquals(-10, new Card("clubs", "QUEEN").getValue());
+        assertEquals(0, new Card("clubs", "NINE").getValue());
+        assertEquals(new Card("clubs", "A").getOrdinal(), new Card("clubs", "ACE").getOrdinal());
     }
 
     /**
@@ -125,10 +137,7 @@ public class CardTest {
     @Test
     void testToStringFormat() {
         Card card = new Card("clubs", "A");
-        assertEquals("A of clubs (DOWN)", card.toString());
-
-        card.setFaceUp(true);
-        assertEquals("A of clubs (UP)", card.toString());
+        assertEquals("A of clubs", card.toString());
     }
 
     /**
@@ -139,4 +148,20 @@ public class CardTest {
         Card card = new Card("hearts", "Q");
         assertEquals("/org/example/mini/view/images/_/q_hearts.png", card.getImagePath());
     }
+
+    /**
+     * The lookup table must agree with the Ace rules on both sides of the
+     * threshold and for very negative sums outside the stored range.
+     */
+    @Test
+    void testValueTableCoversAllSums() {
+        Card ace = new Card("hearts", "A");
+        assertEquals(10, ace.getGameValue(40, true));
+        assertEquals(1, ace.getGameValue(41, true));
+        assertEquals(10, ace.getGameValue(40, false));
+        assertEquals(1, ace.getGameValue(41, false));
+        assertEquals(10, ace.getGameValue(-1000, false));
+        assertEquals(-10, new Card("spades", "K").getGameValue(-1000, true));
+        assertTrue(new Card("spades", "K").canBePlayed(60, true)); // 60 - 10 = 50
+    }
 }
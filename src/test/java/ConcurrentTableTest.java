@@ -0,0 +1,84 @@
+package org.example.mini.model;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ConcurrentTable class.
+ * These tests place cards from several threads at once and check that the
+ * table never goes over 50 and never loses a card.
+ */
+class ConcurrentTableTest {
+
+    /**
+     * Racing placements must never overshoot the limit: with fives, exactly
+     * ten of them fit on the table no matter how many threads try.
+     */
+    @Test
+    void testConcurrentPlacementsNeverExceedFifty() throws InterruptedException {
+        Card five = CardCatalogue.of("hearts", "5");
+        int threads = 8;
+
+        for (int round = 0; round < 50; round++) {
+            ConcurrentTable table = new ConcurrentTable();
+            table.setVerbose(false);
+            AtomicInteger placed = new AtomicInteger();
+            CountDownLatch go = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 5; i++) {
+                        if (table.placeCard(five, false)) {
+                            placed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            go.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+            assertEquals(10, placed.get());
+            assertEquals(50, table.getTableSum());
+            assertEquals(10, table.getCardCount());
+            assertEquals(10, table.getCards().size());
+        }
+    }
+
+    /**
+     * Recycling keeps the last card and hands back the rest in play order.
+     */
+    @Test
+    void testRemoveAllButLastCardKeepsPlayOrder() {
+        ConcurrentTable table = new ConcurrentTable();
+        table.setVerbose(false);
+        Card two = CardCatalogue.of("clubs", "2");
+        Card three = CardCatalogue.of("clubs", "3");
+        Card four = CardCatalogue.of("clubs", "4");
+        table.placeCard(two, true);
+        table.placeCard(three, true);
+        table.placeCard(four, true);
+
+        List<Card> removed = table.removeAllButLastCard();
+
+        assertEquals(List.of(two, three), removed);
+        assertSame(four, table.getLastCard());
+        assertEquals(4, table.getTableSum());
+        assertEquals(List.of(four), table.getCards());
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.mini.model.player.strategy;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.player.BitsetHand;
+import org.example.mini.model.player.MachinePlayer;
+import org.example.mini.model.rules.LegalMoves;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CPU strategies and their discovery.
+ */
+class CpuStrategiesTest {
+
+    /**
+     * The reference strategies are found through the service loader, with the
+     * random strategy as the default.
+     */
+    @Test
+    void testStrategiesAreDiscovered() {
+        List<CpuStrategy> available = CpuStrategies.available();
+
+        assertTrue(CpuStrategies.defaultStrategy() instanceof RandomStrategy);
+        assertTrue(CpuStrategies.byId("greedy") instanceof GreedyStrategy);
+        assertTrue(CpuStrategies.byId("Lowest-Risk") instanceof LowestRiskStrategy);
+        assertEquals(available.size(), available.stream().map(CpuStrategy::id).distinct().count());
+        assertThrows(IllegalArgumentException.class, () -> CpuStrategies.byId("nope"));
+    }
+
+    /**
+     * Every strategy must choose a legal card from the hand, or null when there is none.
+     */
+    @Test
+    void testStrategiesChooseLegalCards() {
+        SplittableRandom random = new SplittableRandom(13L);
+        for (CpuStrategy strategy : CpuStrategies.available()) {
+            for (int round = 0; round < 500; round++) {
+                BitsetHand hand = new BitsetHand();
+                for (int i = 0; i < 4; i++) {
+                    hand.add(CardCatalogue.get(random.nextInt(CardCatalogue.SIZE)));
+                }
+                int sum = random.nextInt(-20, 51);
+                LegalMoves moves = LegalMoves.of(hand, sum, false);
+
+                Card card = strategy.choose(hand, sum, random);
+
+                if (moves.isEmpty()) {
+                    assertNull(card, strategy.id());
+                } else {
+                    assertTrue(moves.contains(card), strategy.id() + " chose " + card + " at " + sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Greedy pushes the sum up; lowest risk keeps the cards that can follow.
+     */
+    @Test
+    void testReferenceStrategies() {
+        BitsetHand hand = new BitsetHand();
+        Card eight = CardCatalogue.of("hearts", "8");
+        Card king = CardCatalogue.of("clubs", "K");
+        Card nine = CardCatalogue.of("spades", "9");
+        hand.add(eight);
+        hand.add(king);
+        hand.add(nine);
+
+        assertSame(eight, new GreedyStrategy().choose(hand, 40, null));
+        // Every move leaves both other cards playable, so the tie goes to the lowest sum
+        assertSame(king, new LowestRiskStrategy().choose(hand, 40, null));
+    }
+
+    /**
+     * A strategy must return the instance the hand holds, and the player must
+     * play exactly that instance, even when it is not the catalogue one.
+     */
+    @Test
+    void testHeldInstancesArePlayed() {
+        for (CpuStrategy strategy : CpuStrategies.available()) {
+            Card seven = new Card("clubs", "7");
+            Card king = new Card("spades", "K");
+            MachinePlayer cpu = new MachinePlayer("CPU", new SplittableRandom(17L), strategy);
+            cpu.addCard(seven);
+            cpu.addCard(king);
+
+            Card chosen = strategy.choose((BitsetHand) cpu.getHand(), 0, new SplittableRandom(17L));
+            assertTrue(chosen == seven || chosen == king, strategy.id() + " returned " + chosen);
+
+            Card played = cpu.playCard(0);
+            assertTrue(played == seven || played == king, strategy.id() + " played " + played);
+            assertEquals(1, cpu.getHand().size());
+            assertFalse(cpu.getHand().contains(played));
+        }
+    }
+}
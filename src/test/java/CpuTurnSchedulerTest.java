@@ -0,0 +1,156 @@
+package org.example.mini.controller;
+
+import org.example.mini.model.game.Game;
+import org.example.mini.model.game.GameLoop;
+import org.example.mini.model.game.ManualTurnClock;
+import org.example.mini.model.game.TurnClock;
+import org.example.mini.model.player.HumanPlayer;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CpuTurnScheduler class.
+ * CPU turns must run as steps on the game loop, paced by the turn clock,
+ * and a cancelled scheduler must never run another step.
+ */
+class CpuTurnSchedulerTest {
+
+    /**
+     * Creates a loop owning a started game with one human and one CPU.
+     *
+     * @return the loop
+     */
+    private static GameLoop newLoop() {
+        return newLoop(1);
+    }
+
+    /**
+     * Creates a loop owning a started game with one human and some CPUs.
+     *
+     * @param cpus the number of CPU players
+     * @return the loop
+     */
+    private static GameLoop newLoop(int cpus) {
+        List<IPlayer> players = new ArrayList<>();
+        players.add(new HumanPlayer("You"));
+        for (int i = 1; i <= cpus; i++) {
+            players.add(new MachinePlayer("CPU " + i, new SplittableRandom(i)));
+        }
+        Game game = new Game(players, new SplittableRandom(11L));
+        game.setVerbose(false);
+        game.start();
+        return new GameLoop(game);
+    }
+
+    /**
+     * Cancelling while a CPU is thinking drops its pending move, and the loop
+     * thread stops once the loop is shut down.
+     */
+    @Test
+    void testCancelDropsPendingStepAndLoopStops() throws InterruptedException {
+        GameLoop loop = newLoop();
+        CpuTurnScheduler scheduler = new CpuTurnScheduler(loop, new SplittableRandom(1L), new CpuTurnScheduler.Listener() { });
+        int cpuCards = loop.getSnapshot().getSeats().get(1).getHand().size();
+
+        scheduler.start();
+        assertTrue(scheduler.isRunning());
+
+        // Wait until the turn has passed to the CPU, which is now "thinking" for 3-4 s
+        loop.execute(game -> { }).join();
+        assertEquals(1, loop.getSnapshot().getCurrentSeat());
+
+        scheduler.cancel();
+        scheduler.start(); // A cancelled scheduler must stay stopped
+        assertFalse(scheduler.isRunning());
+
+        loop.shutdown();
+        assertTrue(loop.awaitTermination(1, TimeUnit.SECONDS), "No thread may outlive the game");
+        assertEquals(cpuCards, loop.getSnapshot().getSeats().get(1).getHand().size(),
+                "The cancelled CPU move must never run");
+    }
+
+    /**
+     * With a manual clock, CPU steps only run when virtual time is advanced
+     * past their delay, and no real time is spent waiting.
+     */
+    @Test
+    void testManualClockRunsStepsOnlyWhenAdvanced() {
+        GameLoop loop = newLoop(2);
+        ManualTurnClock clock = new ManualTurnClock();
+        AtomicBoolean humanTurn = new AtomicBoolean();
+        AtomicBoolean gameOver = new AtomicBoolean();
+        CpuTurnScheduler scheduler = new CpuTurnScheduler(loop, clock, new SplittableRandom(3L),
+                new CpuTurnScheduler.Listener() {
+                    @Override
+                    public void onHumanTurn() {
+                        humanTurn.set(true);
+                    }
+
+                    @Override
+                    public void onGameOver(IPlayer winner) {
+                        gameOver.set(true);
+                    }
+                });
+        try {
+            int tableCards = loop.getSnapshot().getTableCardCount();
+            scheduler.start();
+
+            // Passing the turn is immediate, the CPU then thinks for at least 3 s of virtual time
+            assertEquals(1, clock.advance(0));
+            assertEquals(1, loop.getSnapshot().getCurrentSeat());
+            clock.advance(2999);
+            assertEquals(tableCards, loop.getSnapshot().getTableCardCount(), "CPU must not play before 3 s");
+
+            // Both CPUs finish well within a minute of virtual time, without any real wait
+            long start = System.nanoTime();
+            for (int i = 0; i < 60 && !humanTurn.get() && !gameOver.get(); i++) {
+                clock.advance(1000);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(humanTurn.get() || gameOver.get(), "Turn must come back or the game must end");
+            assertFalse(scheduler.isRunning());
+            assertTrue(elapsedMillis < 1000, "Virtual waits must not cost wall time: " + elapsedMillis + " ms");
+        } finally {
+            loop.shutdown();
+        }
+    }
+
+    /**
+     * With the instant clock, all CPU turns run back to back until the human
+     * plays again or the game ends.
+     */
+    @Test
+    void testInstantClockPlaysCpuTurnsImmediately() throws InterruptedException {
+        GameLoop loop = newLoop(3);
+        CountDownLatch done = new CountDownLatch(1);
+        CpuTurnScheduler scheduler = new CpuTurnScheduler(loop, TurnClock.instant(), new SplittableRandom(5L),
+                new CpuTurnScheduler.Listener() {
+                    @Override
+                    public void onHumanTurn() {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onGameOver(IPlayer winner) {
+                        done.countDown();
+                    }
+                });
+        try {
+            scheduler.start();
+            assertTrue(done.await(2, TimeUnit.SECONDS), "Three CPU turns must finish in milliseconds");
+        } finally {
+            loop.shutdown();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -105,5 +106,26 @@ class DeckTest {
         // Now the deck must be empty
         assertTrue(deck.isEmpty(), "Deck should be empty now");
     }
-}
 
+    @Test
+    void testMultiDeckAndWrapAround() {
+        Deck deck = new Deck(2, new SplittableRandom(42));
+        // Two standard decks combined
+        assertEquals(104, deck.size(), "A double deck must hold 104 cards");
+
+        // Cycle cards through the bottom many times so the buffer wraps around
+        for (int i = 0; i < 1_000; i++) {
+            deck.returnCard(deck.draw());
+        }
+        assertEquals(104, deck.size(), "Draw/return cycles must keep the size constant");
+        assertEquals(deck.getCards().get(0), deck.draw(), "The view must start at the top of the deck");
+    }
+
+    @Test
+    void testSameSeedGivesSameOrder() {
+        Deck first = new Deck(new SplittableRandom(7));
+        Deck second = new Deck(new SplittableRandom(7));
+        // Seeded decks must be reproducible card by card
+        assertEquals(first.getCards(), second.getCards(), "Decks with the same seed must have the same order");
+    }
+}
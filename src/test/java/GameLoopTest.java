@@ -0,0 +1,133 @@
+package org.example.mini.model.game;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameLoop class.
+ * Commands must run on the loop thread, snapshots must be detached copies
+ * of the model, and every submitted future must complete.
+ */
+class GameLoopTest {
+
+    /**
+     * Creates a started two-CPU game with a fixed seed.
+     *
+     * @return the game
+     */
+    private static Game newGame() {
+        List<IPlayer> players = new ArrayList<>();
+        players.add(new MachinePlayer("CPU 1"));
+        players.add(new MachinePlayer("CPU 2"));
+        Game game = new Game(players, new SplittableRandom(7L));
+        game.setVerbose(false);
+        game.start();
+        return game;
+    }
+
+    /**
+     * A command runs on the loop thread and the snapshot published after it
+     * reflects its change.
+     */
+    @Test
+    void testCommandsRunOnLoopThreadAndPublishSnapshots() {
+        GameLoop loop = new GameLoop(newGame());
+        try {
+            int before = loop.getSnapshot().getCurrentSeat();
+            boolean onLoop = loop.submit(game -> {
+                game.nextTurn();
+                return loop.isLoopThread();
+            }).join();
+
+            assertTrue(onLoop, "Commands must run on the loop thread");
+            assertFalse(loop.isLoopThread());
+            assertNotEquals(before, loop.getSnapshot().getCurrentSeat(), "Snapshot must reflect the command");
+        } finally {
+            loop.shutdown();
+        }
+    }
+
+    /**
+     * A snapshot is an unmodifiable copy that later commands do not change.
+     */
+    @Test
+    void testSnapshotIsImmutableCopy() {
+        GameLoop loop = new GameLoop(newGame());
+        try {
+            GameSnapshot snapshot = loop.getSnapshot();
+            List<Card> hand = snapshot.getSeats().get(0).getHand();
+            int size = hand.size();
+
+            // Emptying the live hand must not change the snapshot taken before
+            loop.execute(game -> game.getPlayers().get(0).getHand().clear()).join();
+
+            assertEquals(size, hand.size());
+            assertTrue(loop.getSnapshot().getSeats().get(0).getHand().isEmpty());
+            assertThrows(UnsupportedOperationException.class, () -> hand.remove(0));
+        } finally {
+            loop.shutdown();
+        }
+    }
+
+    /**
+     * Listeners receive the snapshot after a command, and a stopped loop
+     * rejects new commands.
+     */
+    @Test
+    void testListenersAndShutdown() throws InterruptedException {
+        GameLoop loop = new GameLoop(newGame());
+        CountDownLatch published = new CountDownLatch(1);
+        loop.addSnapshotListener(snapshot -> published.countDown());
+
+        loop.execute(Game::nextTurn);
+        assertTrue(published.await(5, TimeUnit.SECONDS), "Listener must receive the new snapshot");
+
+        loop.shutdown();
+        assertTrue(loop.isShutdown());
+        assertThrows(CompletionException.class, () -> loop.execute(Game::nextTurn).join(),
+                "A stopped loop must reject commands");
+    }
+
+    /**
+     * A command that throws an Error, or a listener that throws, must still
+     * complete the future, and the other listeners must still be called.
+     */
+    @Test
+    void testFailuresAlwaysCompleteTheFuture() {
+        GameLoop loop = new GameLoop(newGame());
+        try {
+            AtomicInteger calls = new AtomicInteger();
+            loop.addSnapshotListener(snapshot -> {
+                throw new IllegalStateException("broken listener");
+            });
+            loop.addSnapshotListener(snapshot -> calls.incrementAndGet());
+
+            CompletableFuture<Void> failed = loop.execute(game -> {
+                throw new AssertionError("broken command");
+            });
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, e.getCause());
+
+            assertDoesNotThrow(() -> loop.execute(Game::nextTurn).get(5, TimeUnit.SECONDS),
+                    "A failing listener must not fail the command");
+            assertEquals(2, calls.get(), "The other listener must see both snapshots");
+        } finally {
+            loop.shutdown();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.mini.model.game;
+
+import org.example.mini.model.Table;
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.deck.Deck;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the events the Game class publishes to its listeners.
+ */
+class GameTest {
+
+    /**
+     * Eliminations, turn changes and the end of the game are published in
+     * the order they happen: eliminated seats are skipped when the turn
+     * passes, and the end of the game is announced only once.
+     */
+    @Test
+    void testListenerIsNotifiedOfTurnsAndEliminations() {
+        MachinePlayer a = new MachinePlayer("CPU A", new SplittableRandom(1L));
+        MachinePlayer b = new MachinePlayer("CPU B", new SplittableRandom(2L));
+        MachinePlayer c = new MachinePlayer("CPU C", new SplittableRandom(3L));
+        a.addCard(CardCatalogue.of("clubs", "5"));
+        b.addCard(CardCatalogue.of("hearts", "10"));
+        c.addCard(CardCatalogue.of("spades", "2"));
+        c.addCard(CardCatalogue.of("spades", "K"));
+
+        SplittableRandom random = new SplittableRandom(9L);
+        List<Card> pile = List.of(CardCatalogue.of("diamonds", "10"), CardCatalogue.of("clubs", "10"),
+                CardCatalogue.of("hearts", "10"), CardCatalogue.of("spades", "10"), CardCatalogue.of("diamonds", "5"));
+        Deck deck = new Deck(List.of(CardCatalogue.of("diamonds", "3")), random);
+        Game game = new Game(List.<IPlayer>of(a, b, c), deck, new Table(pile, 45), random);
+        game.setVerbose(false);
+        GameListener listener = Mockito.mock(GameListener.class);
+        game.addListener(listener);
+
+        // At 45 only B cannot play (10 would make 55)
+        game.checkAndEliminatePlayers();
+        assertFalse(b.isActive());
+        assertFalse(game.isGameOver());
+
+        // The turn passes from A to C, skipping B, then back to A
+        game.nextTurn();
+        game.nextTurn();
+        assertSame(a, game.getCurrentPlayer());
+
+        // At 49 A's 5 is stuck while C can still play its King: C wins
+        game.getTable().setTableSum(49);
+        game.checkAndEliminatePlayers();
+        assertTrue(game.isGameOver());
+
+        // A further check must not announce the end of the game again
+        game.checkAndEliminatePlayers();
+
+        InOrder order = Mockito.inOrder(listener);
+        order.verify(listener).onPlayerEliminated(b);
+        order.verify(listener).onTurnStarted(c);
+        order.verify(listener).onTurnStarted(a);
+        order.verify(listener).onPlayerEliminated(a);
+        order.verify(listener).onGameOver(c);
+        Mockito.verifyNoMoreInteractions(listener);
+    }
+}
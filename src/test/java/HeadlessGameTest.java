@@ -0,0 +1,54 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessGameTest {
+
+    private static List<IPlayer> bots(int count) {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            players.add(new MachinePlayer("CPU " + i));
+        }
+        return players;
+    }
+
+    @Test
+    void testGameRunsToCompletion() {
+        HeadlessGame headless = new HeadlessGame(bots(4));
+        GameResult result = headless.play();
+
+        // A finished game has at most one survivor, and everyone else was eliminated
+        assertFalse(result.isTruncated(), "Game should finish before the turn limit");
+        assertTrue(headless.getGame().isGameOver(), "Game must be over after play()");
+        if (result.getWinnerSeat() >= 0) {
+            assertEquals(3, result.getEliminationCount(), "All but the winner must be eliminated");
+        } else {
+            assertEquals(4, result.getEliminationCount(), "Without a winner every seat is eliminated");
+        }
+    }
+
+    @Test
+    void testTableNeverExceedsFifty() {
+        for (int i = 0; i < 200; i++) {
+            HeadlessGame headless = new HeadlessGame(bots(2));
+            headless.play();
+            // The rules must hold at the end of every game
+            assertTrue(headless.getGame().getTable().getTableSum() <= 50, "Table sum must never exceed 50");
+        }
+    }
+
+    @Test
+    void testWinnerIsNotEliminated() {
+        GameResult result = new HeadlessGame(bots(3)).play();
+        for (int i = 0; i < result.getEliminationCount(); i++) {
+            assertNotEquals(result.getWinnerSeat(), result.getEliminatedSeat(i), "Winner cannot be eliminated");
+        }
+    }
+}
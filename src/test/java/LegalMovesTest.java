@@ -0,0 +1,82 @@
+package org.example.mini.model.rules;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.player.BitsetHand;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the LegalMoves class.
+ */
+class LegalMovesTest {
+
+    /**
+     * Each legal card comes with the sum it produces, and illegal cards are left out.
+     */
+    @Test
+    void testLegalCardsAndResultingSums() {
+        Card ten = CardCatalogue.of("hearts", "10");
+        Card ace = CardCatalogue.of("spades", "A");
+        Card king = CardCatalogue.of("clubs", "K");
+        List<Card> hand = List.of(ten, ace, king);
+
+        LegalMoves moves = LegalMoves.of(hand, 45, true);
+
+        assertEquals(2, moves.size());
+        assertFalse(moves.contains(ten), "10 would take the sum to 55");
+        assertEquals(46, moves.resultingSum(moves.indexOf(ace)), "The human Ace counts 1 near the limit");
+        assertEquals(35, moves.resultingSum(moves.indexOf(king)));
+        assertSame(ace, moves.best());
+        assertTrue(LegalMoves.any(hand, 45, true));
+        assertTrue(LegalMoves.of(List.of(ten), 45, true).isEmpty());
+    }
+
+    /**
+     * The bitset fast path must give the same moves as the plain list scan.
+     */
+    @Test
+    void testBitsetHandMatchesListScan() {
+        for (int sum = -30; sum <= 50; sum += 3) {
+            BitsetHand bitset = new BitsetHand();
+            List<Card> list = new ArrayList<>();
+            for (int ordinal = sum & 7; ordinal < CardCatalogue.SIZE; ordinal += 9) {
+                bitset.add(CardCatalogue.get(ordinal));
+                list.add(CardCatalogue.get(ordinal));
+            }
+            for (boolean human : new boolean[]{true, false}) {
+                LegalMoves fast = LegalMoves.of(bitset, sum, human);
+                LegalMoves scan = LegalMoves.of(list, sum, human);
+                assertEquals(scan.mask(), fast.mask(), "sum " + sum);
+                for (int i = 0; i < scan.size(); i++) {
+                    assertEquals(scan.resultingSum(i), fast.resultingSum(fast.indexOf(scan.card(i))));
+                }
+            }
+        }
+    }
+
+    /**
+     * A card held as its own instance rather than the catalogue one must be
+     * legal on both paths, and the bitset path must return the held instance.
+     */
+    @Test
+    void testHeldInstanceIsLegalOnBothPaths() {
+        Card seven = new Card("clubs", "7");
+        BitsetHand bitset = new BitsetHand();
+        bitset.add(seven);
+        List<Card> list = List.of(seven);
+
+        LegalMoves fast = LegalMoves.of(bitset, 0, true);
+        LegalMoves scan = LegalMoves.of(list, 0, true);
+
+        assertTrue(fast.contains(seven));
+        assertTrue(scan.contains(seven));
+        assertSame(seven, fast.card(0), "The bitset path must return the card the hand holds");
+        assertTrue(fast.contains(CardCatalogue.of("clubs", "7")), "Catalogue cards match by ordinal");
+        assertEquals(scan.mask(), fast.mask());
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.mini.model.player;
+
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the MachinePlayer class.
+ */
+class MachinePlayerTest {
+
+    /**
+     * The CPU must only choose legal cards, and return null when it has none.
+     */
+    @Test
+    void testPlaysOnlyLegalCards() {
+        MachinePlayer cpu = new MachinePlayer("CPU", new SplittableRandom(4L));
+        Card ten = CardCatalogue.of("hearts", "10");
+        Card jack = CardCatalogue.of("spades", "J");
+        cpu.addCard(ten);
+        cpu.addCard(jack);
+
+        assertSame(jack, cpu.playCard(45), "Only the Jack keeps the sum at most 50");
+        assertEquals(1, cpu.getHand().size());
+        assertNull(cpu.playCard(45));
+        assertSame(ten, cpu.getHand().get(0));
+    }
+
+    /**
+     * A decision must not allocate: the per-thread allocation counter stays
+     * flat over many decisions once the code is warmed up.
+     */
+    @Test
+    void testDecisionDoesNotAllocate() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported(),
+                "Allocation counter not available on this JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+
+        MachinePlayer cpu = new MachinePlayer("CPU", new SplittableRandom(9L));
+        for (int ordinal = 0; ordinal < CardCatalogue.SIZE; ordinal += 13) {
+            cpu.addCard(CardCatalogue.get(ordinal));
+        }
+        long checksum = decide(cpu, 100_000); // Warm up
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        checksum += decide(cpu, 100_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(checksum != 0);
+        assertTrue(allocated < 1024, "100000 decisions allocated " + allocated + " bytes");
+    }
+
+    private static long decide(MachinePlayer cpu, int decisions) {
+        long checksum = 0;
+        for (int i = 0; i < decisions; i++) {
+            Card card = cpu.playCard(i % 50);
+            if (card != null) {
+                checksum += card.getOrdinal() + 1;
+                cpu.addCard(card);
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.Table;
+import org.example.mini.model.card.Card;
+import org.example.mini.model.card.CardCatalogue;
+import org.example.mini.model.deck.Deck;
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.example.mini.model.player.strategy.RandomStrategy;
+import org.example.mini.model.rules.LegalMoves;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MctsStrategy class.
+ * The search must respect its time budget and only ever choose legal cards.
+ */
+class MctsStrategyTest {
+
+    private static final MctsStrategy FAST = new MctsStrategy(5, ForkJoinPool.commonPool());
+
+    /**
+     * The budget is clamped to its bounds, and each CPU gets its own
+     * instance because the strategy follows a single game.
+     */
+    @Test
+    void testBudgetIsClampedAndEachPlayerGetsItsOwnInstance() {
+        assertEquals(MctsStrategy.MIN_BUDGET_MILLIS, new MctsStrategy(0, ForkJoinPool.commonPool()).getBudgetMillis());
+        assertEquals(MctsStrategy.MAX_BUDGET_MILLIS, new MctsStrategy(5000, ForkJoinPool.commonPool()).getBudgetMillis());
+
+        MachinePlayer cpu = new MachinePlayer("CPU", new SplittableRandom(1L), FAST);
+        assertNotSame(FAST, cpu.getStrategy(), "The search follows one game, so it must not be shared");
+    }
+
+    /**
+     * With several legal cards the search runs for its whole budget, on a
+     * game rebuilt from a fixed position, and still returns a legal card
+     * shortly after the deadline.
+     */
+    @Test
+    void testDecisionIsLegalAndWithinBudget() {
+        MctsStrategy strategy = new MctsStrategy(20, ForkJoinPool.commonPool());
+        MachinePlayer cpu = new MachinePlayer("CPU 1", new SplittableRandom(2L), strategy);
+        MachinePlayer other = new MachinePlayer("CPU 2", new SplittableRandom(3L));
+
+        // Sum 30 from three tens; every card of the CPU's hand is legal (2, 3, 9 and K)
+        List<Card> pile = List.of(CardCatalogue.of("diamonds", "10"), CardCatalogue.of("clubs", "10"),
+                CardCatalogue.of("spades", "10"));
+        List<Card> cpuHand = List.of(CardCatalogue.of("hearts", "2"), CardCatalogue.of("hearts", "3"),
+                CardCatalogue.of("clubs", "9"), CardCatalogue.of("spades", "K"));
+        List<Card> otherHand = List.of(CardCatalogue.of("hearts", "5"), CardCatalogue.of("hearts", "6"),
+                CardCatalogue.of("clubs", "7"), CardCatalogue.of("spades", "8"));
+        List<Card> rest = new ArrayList<>(CardCatalogue.all());
+        rest.removeAll(pile);
+        rest.removeAll(cpuHand);
+        rest.removeAll(otherHand);
+        cpuHand.forEach(cpu::addCard);
+        otherHand.forEach(other::addCard);
+
+        List<IPlayer> players = List.of(cpu, other);
+        SplittableRandom random = new SplittableRandom(5L);
+        Game game = new Game(players, new Deck(rest, random), new Table(pile, 30), random);
+        game.setVerbose(false);
+        cpu.joinGame(game);
+
+        LegalMoves moves = LegalMoves.of(cpu.getHand(), 30, false);
+        assertEquals(4, moves.size(), "The position must leave the search a real choice");
+
+        long start = System.nanoTime();
+        Card card = cpu.playCard(30);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(moves.contains(card), "Must choose a legal card: " + card);
+        assertTrue(elapsedMillis >= 20, "The search must use its budget, took " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 20 + 500, "Decision took " + elapsedMillis + " ms");
+    }
+
+    /**
+     * Full headless games with an MCTS seat finish without any illegal move.
+     */
+    @Test
+    void testPlaysCompleteHeadlessGames() {
+        SeatFactory seats = (seat, random) -> seat == 0
+                ? new MachinePlayer("MCTS", random, FAST)
+                : new MachinePlayer("CPU " + seat, random);
+        for (long seed = 0; seed < 3; seed++) {
+            // HeadlessGame rejects any illegal card, so finishing proves every choice was legal
+            GameResult result = new HeadlessGame(3, seats, seed, HeadlessGame.DEFAULT_MAX_TURNS).play();
+            assertFalse(result.isTruncated());
+        }
+    }
+
+    /**
+     * Against two random CPUs the search must win far more often than the
+     * one game in three a random seat would, even with the smallest budget.
+     */
+    @Test
+    void testBeatsRandomOpponents() {
+        SeatFactory seats = (seat, random) -> seat == 0
+                ? new MachinePlayer("MCTS", random, FAST)
+                : new MachinePlayer("CPU " + seat, random, new RandomStrategy());
+        int games = 30;
+        int wins = 0;
+        for (long seed = 0; seed < games; seed++) {
+            if (new HeadlessGame(3, seats, seed, HeadlessGame.DEFAULT_MAX_TURNS).play().getWinnerSeat() == 0) {
+                wins++;
+            }
+        }
+        // Around 80% is typical; half the games is still well above the 33% of a random seat
+        assertTrue(wins >= games / 2, "MCTS won only " + wins + " of " + games + " games");
+    }
+}
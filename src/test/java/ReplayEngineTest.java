@@ -0,0 +1,114 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.game.Game;
+import org.example.mini.model.player.IPlayer;
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+
+    private static final SeatFactory BOTS = (seat, random) -> new MachinePlayer("CPU " + (seat + 1), random);
+
+    private static HeadlessGame recordedGame(long seed) {
+        return new HeadlessGame(4, BOTS, seed, HeadlessGame.DEFAULT_MAX_TURNS).enableRecording();
+    }
+
+    @Test
+    void testReplayMatchesOriginalAtEveryTurn() {
+        HeadlessGame original = recordedGame(99L);
+        original.start();
+        GameRecord partial;
+        int turns = 0;
+        // Compare the original and the replay turn by turn
+        while (original.step()) {
+            turns++;
+            partial = original.getRecord();
+            Game replayed = ReplayEngine.replay(partial, turns).getGame();
+            Game expected = original.getGame();
+
+            assertEquals(expected.getTable().getTableSum(), replayed.getTable().getTableSum());
+            assertEquals(expected.getTable().getLastCard(), replayed.getTable().getLastCard());
+            for (int seat = 0; seat < 4; seat++) {
+                IPlayer e = expected.getPlayers().get(seat);
+                IPlayer r = replayed.getPlayers().get(seat);
+                assertEquals(e.isActive(), r.isActive());
+                assertEquals(e.getHand(), r.getHand());
+            }
+        }
+        assertEquals(original.getResult().toString(),
+                ReplayEngine.replay(original.getRecord(), turns).getResult().toString());
+    }
+
+    @Test
+    void testRecordRoundTripsThroughBytes() throws IOException {
+        HeadlessGame original = recordedGame(5L);
+        original.play();
+        GameRecord record = original.getRecord();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        record.writeTo(new DataOutputStream(bytes));
+        GameRecord decoded = GameRecord.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(record.getSeed(), decoded.getSeed());
+        assertEquals(record.getMoveCount(), decoded.getMoveCount());
+        for (int turn = 0; turn < record.getMoveCount(); turn++) {
+            assertEquals(record.getMove(turn), decoded.getMove(turn));
+        }
+    }
+
+    @Test
+    void testScanFindsTableRecycles() {
+        // Long games exhaust the deck, so some seed in a small range must recycle the table
+        boolean found = false;
+        for (long seed = 0; seed < 200 && !found; seed++) {
+            HeadlessGame game = recordedGame(seed);
+            game.play();
+            found = ReplayEngine.hasTableRecycle(game.getRecord());
+            assertEquals(game.getGame().getTableRecycles() > 0, found, "Scan must agree with the original game");
+        }
+        assertTrue(found, "Expected at least one game with a table recycle");
+    }
+
+    @Test
+    void testScanFindsMassEliminations() {
+        // Watch the original game: a mass elimination is a turn that removes every player still active
+        boolean foundMass = false;
+        boolean foundOther = false;
+        for (long seed = 0; seed < 500 && !(foundMass && foundOther); seed++) {
+            HeadlessGame game = recordedGame(seed);
+            int active = 4;
+            game.start();
+            boolean mass = false;
+            do {
+                int remaining = countActive(game.getGame());
+                mass |= remaining < active && remaining == 0;
+                active = remaining;
+            } while (game.step());
+
+            assertEquals(mass, ReplayEngine.hasMassElimination(game.getRecord()),
+                    "Scan must agree with the original game for seed " + seed);
+            foundMass |= mass;
+            foundOther |= !mass;
+        }
+        assertTrue(foundMass, "Expected at least one game where the last players are eliminated together");
+        assertTrue(foundOther, "Expected at least one game without a mass elimination");
+    }
+
+    private static int countActive(Game game) {
+        int active = 0;
+        for (IPlayer player : game.getPlayers()) {
+            if (player.isActive()) {
+                active++;
+            }
+        }
+        return active;
+    }
+}
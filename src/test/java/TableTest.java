@@ -98,4 +98,68 @@ class TableTest {
         assertEquals(1, table.getCardCount(), "Only one card should remain on the table");
         assertEquals(c3, table.getLastCard(), "The last remaining card must be the most recently played");
     }
+
+    @Test
+    void testListenerIsNotifiedOfChanges() {
+        TableListener listener = Mockito.mock(TableListener.class);
+        table.addListener(listener);
+
+        Card c1 = Mockito.mock(Card.class);
+        Card c2 = Mockito.mock(Card.class);
+        Mockito.when(c1.getGameValue(0, true)).thenReturn(5);
+        Mockito.when(c2.getGameValue(5, true)).thenReturn(10);
+        Mockito.when(c2.getGameValue(0, true)).thenReturn(10);
+
+        table.placeCard(c1);
+        table.placeCard(c2);
+        table.removeAllButLastCard();
+
+        // Each real change publishes exactly one event
+        Mockito.verify(listener).onCardPlaced(c1, 5);
+        Mockito.verify(listener).onCardPlaced(c2, 15);
+        Mockito.verify(listener).onTableRecycled(c2, 10);
+
+        // Removed listeners are not called anymore
+        table.removeListener(listener);
+        table.reset();
+        Mockito.verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testPileGrowsAndRecycleHandsOffPlayOrder() {
+        Card card = Mockito.mock(Card.class);
+        Mockito.when(card.getGameValue(Mockito.anyInt(), Mockito.eq(true))).thenReturn(0);
+        Card last = Mockito.mock(Card.class);
+        Mockito.when(last.getGameValue(Mockito.anyInt(), Mockito.eq(true))).thenReturn(7);
+
+        // More cards than the initial pile capacity
+        List<Card> cards = table.getCards();
+        for (int i = 0; i < 40; i++) {
+            assertTrue(table.placeCard(card));
+        }
+        table.placeCard(last);
+        assertEquals(41, cards.size(), "getCards() must be a live view of the pile");
+
+        List<Card> removed = table.removeAllButLastCard();
+
+        assertEquals(40, removed.size());
+        assertSame(card, removed.get(39));
+        assertEquals(List.of(last), cards);
+        assertEquals(7, table.getTableSum());
+        assertThrows(UnsupportedOperationException.class, () -> removed.add(card));
+    }
+
+    @Test
+    void testTableRebuiltFromPileKeepsCardsAndSum() {
+        Card first = Mockito.mock(Card.class);
+        Card ace = Mockito.mock(Card.class);
+
+        // The pile is taken as played: its cards are not valued again
+        Table rebuilt = new Table(List.of(first, ace), 12);
+
+        assertEquals(List.of(first, ace), rebuilt.getCards());
+        assertSame(ace, rebuilt.getLastCard());
+        assertEquals(12, rebuilt.getTableSum());
+        Mockito.verifyNoInteractions(first, ace);
+    }
 }
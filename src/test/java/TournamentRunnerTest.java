@@ -0,0 +1,81 @@
+package org.example.mini.simulation;
+
+import org.example.mini.model.player.MachinePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentRunnerTest {
+
+    private static TournamentRunner botRunner(int seats) {
+        return new TournamentRunner(seats, (seat, random) -> new MachinePlayer("CPU " + (seat + 1), random), 2024L);
+    }
+
+    @Test
+    void testEveryGameIsCounted() {
+        TournamentStats stats = botRunner(4).run(2_000);
+
+        // Wins, games without winner and truncated games must add up to the total
+        long outcomes = stats.getNoWinnerGames() + stats.getTruncatedGames();
+        for (int seat = 0; seat < stats.getSeats(); seat++) {
+            outcomes += stats.getWins(seat);
+        }
+        assertEquals(2_000, stats.getGames(), "Every game must be recorded");
+        assertEquals(2_000, outcomes, "Every game must have exactly one outcome");
+        assertTrue(stats.getShortestGame() <= stats.getLongestGame(), "Shortest game cannot exceed longest game");
+    }
+
+    @Test
+    void testRunsOnCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TournamentStats stats = botRunner(2).run(1_000, pool);
+            assertEquals(1_000, stats.getGames(), "Custom pool must play all requested games");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testResultsDoNotDependOnThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            TournamentStats a = botRunner(3).run(3_000, single);
+            TournamentStats b = botRunner(3).run(3_000, many);
+
+            // Same master seed must give identical statistics on any number of threads
+            assertEquals(a.getTotalTurns(), b.getTotalTurns());
+            assertEquals(a.getNoWinnerGames(), b.getNoWinnerGames());
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(a.getWins(seat), b.getWins(seat));
+                for (int position = 0; position < 3; position++) {
+                    assertEquals(a.getEliminations(seat, position), b.getEliminations(seat, position));
+                }
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testMergeAddsCounters() {
+        TournamentStats a = new TournamentStats(2);
+        TournamentStats b = new TournamentStats(2);
+        a.record(new GameResult(0, 10, new int[]{1}, false));
+        b.record(new GameResult(1, 20, new int[]{0}, false));
+
+        a.merge(b);
+
+        assertEquals(2, a.getGames());
+        assertEquals(1, a.getWins(0));
+        assertEquals(1, a.getWins(1));
+        assertEquals(30, a.getTotalTurns());
+        assertEquals(10, a.getShortestGame());
+        assertEquals(20, a.getLongestGame());
+        assertEquals(1, a.getEliminations(0, 0));
+    }
+}